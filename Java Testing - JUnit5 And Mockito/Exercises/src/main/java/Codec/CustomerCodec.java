@@ -0,0 +1,167 @@
+package Codec;
+
+import models.Customer;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+// Wire format: zigzag varint custId, then customerName, contactNumber and address, each as a
+// varint (byteLength + 1) followed by the UTF-8 bytes. A length of 0 encodes a null field.
+public final class CustomerCodec {
+
+    //region constructors
+    private CustomerCodec() {
+    }
+    //endregion
+
+    //region encoding
+
+    public static int encodedSize(Customer customer) {
+        return varIntSize(zigZag(customer.getCustId()))
+                + stringSize(customer.getCustomerName())
+                + stringSize(customer.getContactNumber())
+                + stringSize(customer.getAddress());
+    }
+
+    // Writes at the buffer's position and advances it; nothing is written if the customer does not fit.
+    public static int encode(Customer customer, ByteBuffer buffer) {
+        String customerName = customer.getCustomerName();
+        String contactNumber = customer.getContactNumber();
+        String address = customer.getAddress();
+
+        int size = varIntSize(zigZag(customer.getCustId()))
+                + stringSize(customerName)
+                + stringSize(contactNumber)
+                + stringSize(address);
+        if (buffer.remaining() < size) {
+            throw new BufferOverflowException();
+        }
+
+        writeVarInt(buffer, zigZag(customer.getCustId()));
+        writeString(buffer, customerName);
+        writeString(buffer, contactNumber);
+        writeString(buffer, address);
+        return size;
+    }
+
+    //endregion
+
+    //region decoding
+
+    public static Customer decode(ByteBuffer buffer) {
+        CustomerView view = new CustomerView().wrap(buffer, buffer.position());
+        Customer customer = view.toCustomer();
+        buffer.position(buffer.position() + view.getEncodedLength());
+        return customer;
+    }
+
+    //endregion
+
+    //region varint
+
+    static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static int varIntSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    static void writeVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    // Absolute read; returns the value in the low 32 bits and the byte count in the high 32 bits.
+    static long readVarInt(ByteBuffer buffer, int offset) {
+        int value = 0;
+        for (int i = 0; i < 5; i++) {
+            if (offset + i >= buffer.limit()) {
+                throw new BufferUnderflowException();
+            }
+            byte b = buffer.get(offset + i);
+            value |= (b & 0x7F) << (7 * i);
+            if (b >= 0) {
+                return ((long) (i + 1) << 32) | (value & 0xFFFFFFFFL);
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint at offset " + offset);
+    }
+
+    //endregion
+
+    //region utf-8
+
+    private static int stringSize(String value) {
+        if (value == null) {
+            return 1;
+        }
+        int length = utf8Length(value);
+        return varIntSize(length + 1) + length;
+    }
+
+    // Mirrors String.getBytes(UTF_8): unpaired surrogates are written as '?'.
+    static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static void writeString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            writeVarInt(buffer, 0);
+            return;
+        }
+        writeVarInt(buffer, utf8Length(value) + 1);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    //endregion
+}
@@ -0,0 +1,226 @@
+package Codec;
+
+import models.Customer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// Flyweight over one encoded customer. wrap() only records field offsets, so one instance
+// can be reused across many records without allocating. The String getters decode a new
+// String on each call; the append and equals accessors work on the bytes in place.
+public final class CustomerView {
+    //region fields
+    private static final int NULL_LENGTH = -1;
+
+    private ByteBuffer _buffer;
+    private int _offset;
+    private int _encodedLength;
+    private int _custId;
+    private int _customerNameOffset;
+    private int _customerNameLength;
+    private int _contactNumberOffset;
+    private int _contactNumberLength;
+    private int _addressOffset;
+    private int _addressLength;
+    private byte[] _scratch = new byte[0];
+    //endregion
+
+    //region methods
+
+    public CustomerView wrap(ByteBuffer buffer, int offset) {
+        _buffer = buffer;
+        _offset = offset;
+
+        long header = CustomerCodec.readVarInt(buffer, offset);
+        _custId = CustomerCodec.unZigZag((int) header);
+        int position = offset + (int) (header >>> 32);
+
+        header = CustomerCodec.readVarInt(buffer, position);
+        _customerNameLength = (int) header - 1;
+        _customerNameOffset = position + (int) (header >>> 32);
+        position = fieldEnd(_customerNameOffset, _customerNameLength, offset);
+
+        header = CustomerCodec.readVarInt(buffer, position);
+        _contactNumberLength = (int) header - 1;
+        _contactNumberOffset = position + (int) (header >>> 32);
+        position = fieldEnd(_contactNumberOffset, _contactNumberLength, offset);
+
+        header = CustomerCodec.readVarInt(buffer, position);
+        _addressLength = (int) header - 1;
+        _addressOffset = position + (int) (header >>> 32);
+        position = fieldEnd(_addressOffset, _addressLength, offset);
+
+        _encodedLength = position - offset;
+        return this;
+    }
+
+    // Rejects corrupt lengths here, so a bad record can never fail later inside a getter.
+    private int fieldEnd(int fieldOffset, int length, int recordOffset) {
+        if (length < NULL_LENGTH || (long) fieldOffset + Math.max(length, 0) > _buffer.limit()) {
+            throw new IllegalArgumentException("Corrupt or truncated customer record at offset " + recordOffset);
+        }
+        return fieldOffset + Math.max(length, 0);
+    }
+
+    public int getOffset() {
+        return _offset;
+    }
+
+    public int getEncodedLength() {
+        return _encodedLength;
+    }
+
+    public int getCustId() {
+        return _custId;
+    }
+
+    public String getCustomerName() {
+        return readString(_customerNameOffset, _customerNameLength);
+    }
+
+    public String getContactNumber() {
+        return readString(_contactNumberOffset, _contactNumberLength);
+    }
+
+    public String getAddress() {
+        return readString(_addressOffset, _addressLength);
+    }
+
+    public int getCustomerNameByteLength() {
+        return _customerNameLength;
+    }
+
+    public int getContactNumberByteLength() {
+        return _contactNumberLength;
+    }
+
+    public int getAddressByteLength() {
+        return _addressLength;
+    }
+
+    // The append methods add nothing for a null field and the equals methods treat null as a value.
+
+    public StringBuilder appendCustomerName(StringBuilder target) {
+        return appendString(_customerNameOffset, _customerNameLength, target);
+    }
+
+    public StringBuilder appendContactNumber(StringBuilder target) {
+        return appendString(_contactNumberOffset, _contactNumberLength, target);
+    }
+
+    public StringBuilder appendAddress(StringBuilder target) {
+        return appendString(_addressOffset, _addressLength, target);
+    }
+
+    public boolean customerNameEquals(String value) {
+        return stringEquals(_customerNameOffset, _customerNameLength, value);
+    }
+
+    public boolean contactNumberEquals(String value) {
+        return stringEquals(_contactNumberOffset, _contactNumberLength, value);
+    }
+
+    public boolean addressEquals(String value) {
+        return stringEquals(_addressOffset, _addressLength, value);
+    }
+
+    public Customer toCustomer() {
+        return new Customer(getCustId(), getCustomerName(), getContactNumber(), getAddress());
+    }
+
+    private String readString(int offset, int length) {
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        if (_buffer.hasArray()) {
+            return new String(_buffer.array(), _buffer.arrayOffset() + offset, length, StandardCharsets.UTF_8);
+        }
+        if (_scratch.length < length) {
+            _scratch = new byte[length];
+        }
+        _buffer.get(offset, _scratch, 0, length);
+        return new String(_scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private StringBuilder appendString(int offset, int length, StringBuilder target) {
+        int end = offset + Math.max(length, 0);
+        int position = offset;
+        while (position < end) {
+            int b = _buffer.get(position++);
+            if (b >= 0) {
+                target.append((char) b);
+                continue;
+            }
+            int extra = (b & 0xE0) == 0xC0 ? 1 : (b & 0xF0) == 0xE0 ? 2 : (b & 0xF8) == 0xF0 ? 3 : -1;
+            if (extra < 0 || position + extra > end) {
+                target.append('\uFFFD');
+                continue;
+            }
+            int codePoint = b & (0x3F >> extra);
+            for (int i = 0; i < extra; i++) {
+                codePoint = (codePoint << 6) | (_buffer.get(position++) & 0x3F);
+            }
+            if (Character.isBmpCodePoint(codePoint)) {
+                target.append((char) codePoint);
+            } else {
+                target.append(Character.highSurrogate(codePoint)).append(Character.lowSurrogate(codePoint));
+            }
+        }
+        return target;
+    }
+
+    // Encodes value the way CustomerCodec does and compares it byte by byte with the record.
+    private boolean stringEquals(int offset, int length, String value) {
+        if (value == null || length == NULL_LENGTH) {
+            return value == null && length == NULL_LENGTH;
+        }
+        if (CustomerCodec.utf8Length(value) != length) {
+            return false;
+        }
+        int position = offset;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (_buffer.get(position++) != (byte) c) {
+                    return false;
+                }
+            } else if (c < 0x800) {
+                if (_buffer.get(position++) != (byte) (0xC0 | (c >> 6))
+                        || _buffer.get(position++) != (byte) (0x80 | (c & 0x3F))) {
+                    return false;
+                }
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                if (_buffer.get(position++) != (byte) (0xF0 | (codePoint >> 18))
+                        || _buffer.get(position++) != (byte) (0x80 | ((codePoint >> 12) & 0x3F))
+                        || _buffer.get(position++) != (byte) (0x80 | ((codePoint >> 6) & 0x3F))
+                        || _buffer.get(position++) != (byte) (0x80 | (codePoint & 0x3F))) {
+                    return false;
+                }
+            } else if (Character.isSurrogate(c)) {
+                if (_buffer.get(position++) != (byte) '?') {
+                    return false;
+                }
+            } else {
+                if (_buffer.get(position++) != (byte) (0xE0 | (c >> 12))
+                        || _buffer.get(position++) != (byte) (0x80 | ((c >> 6) & 0x3F))
+                        || _buffer.get(position++) != (byte) (0x80 | (c & 0x3F))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "CustomerView {" +
+                "custId = " + getCustId() +
+                ", customerName = '" + getCustomerName() + '\'' +
+                ", contactNumber = '" + getContactNumber() + '\'' +
+                ", address = '" + getAddress() + '\'' +
+                '}';
+    }
+
+    //endregion
+}
@@ -0,0 +1,394 @@
+package Dataset;
+
+import Codec.CustomerCodec;
+import Codec.CustomerView;
+import Repository.CustomerRepository;
+import models.Customer;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+// Record i is a pure function of (seed, i), so any split of the index range across threads
+// yields the same dataset. The sinks generate chunks in parallel and consume them in index
+// order; at most two chunks per worker are alive at once, whatever the dataset size.
+public class CustomerDatasetGenerator {
+    //region fields
+    private static final int DEFAULT_CHUNK_SIZE = 4096;
+    private static final int FILE_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long ID_SALT = 0x1D;
+    private static final long NAME_SALT = 0x2E;
+    private static final long ADDRESS_SALT = 0x3F;
+    private static final long CONTACT_SALT = 0x40;
+    private static final long LENGTH_SALT = 0x51;
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda",
+            "William", "Elizabeth", "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica",
+            "Thomas", "Sarah", "Andrei", "Ioana", "Mihai", "Elena", "Flaviu", "Tatiana",
+            "Gheorghe", "Maria", "Luca", "Sofia", "Mateo", "Emma", "Noah", "Olivia"
+    };
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis",
+            "Rodriguez", "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas",
+            "Popescu", "Ionescu", "Popa", "Dumitru", "Stan", "Stoica", "Gheorghe", "Matei",
+            "Rossi", "Russo", "Ferrari", "Esposito", "Muller", "Schmidt", "Schneider", "Fischer"
+    };
+    private static final String[] STREET_NAMES = {
+            "Main", "Elm", "Oak", "Pine", "Maple", "Cedar", "Walnut", "Lake",
+            "Hill", "Park", "Washington", "Church", "Mill", "River", "Spring", "Ridge",
+            "Unirii", "Victoriei", "Libertatii", "Florilor", "Garii", "Teilor", "Morii", "Viilor"
+    };
+    private static final String[] STREET_TYPES = {
+            "St", "Ave", "Blvd", "Rd", "Ln", "Dr", "Ct", "Way"
+    };
+    private static final String[] CITIES = {
+            "Springfield", "Riverside", "Franklin", "Greenville", "Bristol", "Clinton", "Fairview", "Salem",
+            "Cluj-Napoca", "Brasov", "Timisoara", "Iasi", "Sibiu", "Oradea", "Constanta", "Bucuresti"
+    };
+    private static final String[] ADDRESS_DETAILS = {
+            "Apt", "Suite", "Floor", "Building", "Block", "Entrance", "Unit", "Room"
+    };
+
+    private final CustomerDatasetSpec _spec;
+    private final int _parallelism;
+    private final int _chunkSize;
+    private final FeistelPermutation _permutation;
+    //endregion
+
+    //region constructors
+    public CustomerDatasetGenerator(CustomerDatasetSpec spec) {
+        this(spec, Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public CustomerDatasetGenerator(CustomerDatasetSpec spec, int parallelism, int chunkSize) {
+        if (parallelism < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("parallelism and chunkSize must be at least 1");
+        }
+        _spec = new CustomerDatasetSpec(spec);
+        _spec.validate();
+        _parallelism = parallelism;
+        _chunkSize = chunkSize;
+        _permutation = _spec.getIdDistribution() == CustomerDatasetSpec.IdDistribution.PERMUTED
+                ? new FeistelPermutation(_spec.getCount(), _spec.getSeed())
+                : null;
+    }
+    //endregion
+
+    //region generation
+
+    public Customer customerAt(long index) {
+        if (index < 0 || index >= _spec.getCount()) {
+            throw new IndexOutOfBoundsException("index " + index + " outside dataset of " + _spec.getCount());
+        }
+        long recordHash = mix(_spec.getSeed() + index * GOLDEN_GAMMA);
+
+        int custId = switch (_spec.getIdDistribution()) {
+            case SEQUENTIAL -> _spec.getFirstId() + (int) index;
+            case PERMUTED -> _spec.getFirstId() + (int) _permutation.apply(index);
+            case UNIFORM -> _spec.getFirstId() + bounded(mix(recordHash + ID_SALT), _spec.getIdRange());
+        };
+        int nameIndex = bounded(mix(recordHash + NAME_SALT), _spec.getNameCardinality());
+        int addressIndex = bounded(mix(recordHash + ADDRESS_SALT), _spec.getAddressCardinality());
+        int contact = bounded(mix(recordHash + CONTACT_SALT), 100_000_000);
+
+        return new Customer(custId, nameFor(nameIndex), contactFor(contact), addressFor(addressIndex));
+    }
+
+    // Sequential and lazy; call parallel() on the result to spread generation across cores.
+    public Stream<Customer> stream() {
+        return LongStream.range(0, _spec.getCount()).mapToObj(this::customerAt);
+    }
+
+    // The same name index always yields the same string, so nameCardinality bounds the
+    // number of distinct names. Very short maximum lengths can merge some of them.
+    private String nameFor(int nameIndex) {
+        int targetLength = targetLength(nameIndex, NAME_SALT, _spec.getMinNameLength(), _spec.getMaxNameLength());
+        StringBuilder name = new StringBuilder(targetLength + 16);
+        name.append(FIRST_NAMES[nameIndex % FIRST_NAMES.length]);
+
+        int generation = nameIndex / (FIRST_NAMES.length * LAST_NAMES.length);
+        if (generation > 0) {
+            name.append(' ');
+            appendLetters(name, generation);
+            name.append('.');
+        }
+        name.append(' ').append(LAST_NAMES[(nameIndex / FIRST_NAMES.length) % LAST_NAMES.length]);
+
+        long padding = mix(_spec.getSeed() ^ nameIndex);
+        while (name.length() < targetLength) {
+            String token = "-" + LAST_NAMES[(int) Long.remainderUnsigned(padding, LAST_NAMES.length)];
+            if (!appendToken(name, token, _spec.getMinNameLength(), _spec.getMaxNameLength())) {
+                break;
+            }
+            padding = mix(padding);
+        }
+        return fitLength(name, _spec.getMinNameLength(), _spec.getMaxNameLength());
+    }
+
+    private String addressFor(int addressIndex) {
+        int targetLength = targetLength(addressIndex, ADDRESS_SALT, _spec.getMinAddressLength(), _spec.getMaxAddressLength());
+        StringBuilder address = new StringBuilder(targetLength + 24);
+
+        int remaining = addressIndex;
+        address.append(1 + remaining % 999).append(' ');
+        remaining /= 999;
+        address.append(STREET_NAMES[remaining % STREET_NAMES.length]).append(' ');
+        remaining /= STREET_NAMES.length;
+        address.append(STREET_TYPES[remaining % STREET_TYPES.length]).append(", ");
+        remaining /= STREET_TYPES.length;
+        address.append(CITIES[remaining % CITIES.length]);
+        remaining /= CITIES.length;
+        if (remaining > 0) {
+            address.append(", District ").append(remaining);
+        }
+
+        long padding = mix(_spec.getSeed() ^ ((long) addressIndex << 1));
+        while (address.length() < targetLength) {
+            String token = ", " + ADDRESS_DETAILS[(int) Long.remainderUnsigned(padding, ADDRESS_DETAILS.length)]
+                    + ' ' + (1 + Long.remainderUnsigned(padding >>> 8, 99));
+            if (!appendToken(address, token, _spec.getMinAddressLength(), _spec.getMaxAddressLength())) {
+                break;
+            }
+            padding = mix(padding);
+        }
+        return fitLength(address, _spec.getMinAddressLength(), _spec.getMaxAddressLength());
+    }
+
+    private static String contactFor(int digits) {
+        char[] contact = {'0', '7', '0', '0', '0', '0', '0', '0', '0', '0'};
+        for (int i = contact.length - 1; digits > 0; i--) {
+            contact[i] = (char) ('0' + digits % 10);
+            digits /= 10;
+        }
+        return new String(contact);
+    }
+
+    // Whole tokens are preferred; a token that overshoots max is only taken to reach min.
+    private static boolean appendToken(StringBuilder target, String token, int min, int max) {
+        if (target.length() + token.length() > max && target.length() >= min) {
+            return false;
+        }
+        target.append(token);
+        return true;
+    }
+
+    private static String fitLength(StringBuilder value, int min, int max) {
+        if (value.length() > max) {
+            value.setLength(max);
+        }
+        while (value.length() > min && " -,.".indexOf(value.charAt(value.length() - 1)) >= 0) {
+            value.setLength(value.length() - 1);
+        }
+        return value.toString();
+    }
+
+    private int targetLength(int index, long salt, int min, int max) {
+        return min + bounded(mix(_spec.getSeed() + salt + LENGTH_SALT * index), max - min + 1);
+    }
+
+    private static void appendLetters(StringBuilder target, int value) {
+        int start = target.length();
+        do {
+            target.insert(start, (char) ('A' + value % 26));
+            value /= 26;
+        } while (value > 0);
+    }
+
+    // SplitMix64 finaliser.
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // Maps the high 32 bits onto [0, bound) without modulo bias towards small values.
+    private static int bounded(long hash, int bound) {
+        return (int) (((hash >>> 32) * bound) >>> 32);
+    }
+
+    //endregion
+
+    //region sinks
+
+    public long writeTo(CustomerRepository repository) {
+        return run(this::generateChunk, customers -> {
+            for (Customer customer : customers) {
+                repository.addCustomer(customer);
+            }
+        });
+    }
+
+    public long writeTo(Connection dbConnection) throws SQLException {
+        String sql = "INSERT INTO customers (cust_id, customer_name, contact_number, address) VALUES (?, ?, ?, ?)";
+        try (PreparedStatement stmt = dbConnection.prepareStatement(sql)) {
+            return run(this::generateChunk, customers -> {
+                for (Customer customer : customers) {
+                    stmt.setInt(1, customer.getCustId());
+                    stmt.setString(2, customer.getCustomerName());
+                    stmt.setString(3, customer.getContactNumber());
+                    stmt.setString(4, customer.getAddress());
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            });
+        }
+    }
+
+    // Writes CustomerCodec records back to back; read them with readFile.
+    public long writeTo(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            return run(this::encodeChunk, encoded -> {
+                while (encoded.hasRemaining()) {
+                    channel.write(encoded);
+                }
+            });
+        }
+    }
+
+    public static long readFile(Path file, Consumer<Customer> consumer) throws IOException {
+        CustomerView view = new CustomerView();
+        long records = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long windowStart = 0;
+            while (windowStart < size) {
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(FILE_WINDOW_SIZE, size - windowStart));
+                int offset = 0;
+                while (offset < window.limit()) {
+                    try {
+                        view.wrap(window, offset);
+                    } catch (BufferUnderflowException | IllegalArgumentException e) {
+                        if (offset == 0) {
+                            throw new IOException("Malformed customer record at byte " + windowStart + " of " + file, e);
+                        }
+                        // The record straddles the window; remap starting from it.
+                        break;
+                    }
+                    consumer.accept(view.toCustomer());
+                    offset += view.getEncodedLength();
+                    records++;
+                }
+                windowStart += offset;
+            }
+        }
+        return records;
+    }
+
+    private List<Customer> generateChunk(long chunk) {
+        long start = chunk * _chunkSize;
+        long end = Math.min(_spec.getCount(), start + _chunkSize);
+        List<Customer> customers = new ArrayList<>((int) (end - start));
+        for (long index = start; index < end; index++) {
+            customers.add(customerAt(index));
+        }
+        return customers;
+    }
+
+    private ByteBuffer encodeChunk(long chunk) {
+        List<Customer> customers = generateChunk(chunk);
+        int size = 0;
+        for (Customer customer : customers) {
+            size += CustomerCodec.encodedSize(customer);
+        }
+        ByteBuffer encoded = ByteBuffer.allocate(size);
+        for (Customer customer : customers) {
+            CustomerCodec.encode(customer, encoded);
+        }
+        return encoded.flip();
+    }
+
+    private interface ChunkConsumer<T, E extends Exception> {
+        void accept(T chunk) throws E;
+    }
+
+    // Workers claim chunk numbers in increasing order and may run at most two chunks per
+    // worker ahead of the consumer, which takes them strictly in order on the calling thread.
+    private <T, E extends Exception> long run(LongFunction<T> produce, ChunkConsumer<T, E> consume) throws E {
+        long chunkCount = (_spec.getCount() + _chunkSize - 1) / _chunkSize;
+        if (chunkCount == 0) {
+            return 0;
+        }
+
+        int workerCount = (int) Math.min(_parallelism, chunkCount);
+        Semaphore window = new Semaphore(workerCount * 2);
+        AtomicLong nextChunk = new AtomicLong();
+        ConcurrentHashMap<Long, CompletableFuture<T>> ready = new ConcurrentHashMap<>();
+        ExecutorService workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "customer-dataset-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Runnable worker = () -> {
+            while (true) {
+                try {
+                    window.acquire();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                long chunk = nextChunk.getAndIncrement();
+                if (chunk >= chunkCount) {
+                    window.release();
+                    return;
+                }
+                CompletableFuture<T> result = ready.computeIfAbsent(chunk, key -> new CompletableFuture<>());
+                try {
+                    result.complete(produce.apply(chunk));
+                } catch (Throwable e) {
+                    // Errors too (e.g. OOM on a large chunk): an incomplete future would block the consumer forever.
+                    result.completeExceptionally(e);
+                    return;
+                }
+            }
+        };
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(worker);
+        }
+
+        try {
+            for (long chunk = 0; chunk < chunkCount; chunk++) {
+                T result;
+                try {
+                    result = ready.computeIfAbsent(chunk, key -> new CompletableFuture<>()).join();
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof Error cause) {
+                        throw cause;
+                    }
+                    throw e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+                ready.remove(chunk);
+                consume.accept(result);
+                window.release();
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        return _spec.getCount();
+    }
+
+    //endregion
+}
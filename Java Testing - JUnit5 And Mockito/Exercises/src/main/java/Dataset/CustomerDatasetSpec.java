@@ -0,0 +1,164 @@
+package Dataset;
+
+public class CustomerDatasetSpec {
+
+    public enum IdDistribution {
+        // firstId, firstId + 1, ... in generation order.
+        SEQUENTIAL,
+        // The same unique ids as SEQUENTIAL, in a seeded pseudo-random order.
+        PERMUTED,
+        // Independent uniform draws from [firstId, firstId + idRange); ids may repeat.
+        UNIFORM
+    }
+
+    //region fields
+    private final long _seed;
+    private final long _count;
+    private IdDistribution _idDistribution = IdDistribution.SEQUENTIAL;
+    private int _firstId = 1;
+    private int _idRange = Integer.MAX_VALUE;
+    private int _nameCardinality = 100_000;
+    private int _addressCardinality = 1_000_000;
+    private int _minNameLength = 5;
+    private int _maxNameLength = 40;
+    private int _minAddressLength = 15;
+    private int _maxAddressLength = 80;
+    //endregion
+
+    //region constructors
+    public CustomerDatasetSpec(long seed, long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative");
+        }
+        _seed = seed;
+        _count = count;
+    }
+
+    // Generators keep their own copy, so changing a spec afterwards cannot alter their dataset.
+    CustomerDatasetSpec(CustomerDatasetSpec spec) {
+        this(spec._seed, spec._count);
+        _idDistribution = spec._idDistribution;
+        _firstId = spec._firstId;
+        _idRange = spec._idRange;
+        _nameCardinality = spec._nameCardinality;
+        _addressCardinality = spec._addressCardinality;
+        _minNameLength = spec._minNameLength;
+        _maxNameLength = spec._maxNameLength;
+        _minAddressLength = spec._minAddressLength;
+        _maxAddressLength = spec._maxAddressLength;
+    }
+    //endregion
+
+    //region getters
+
+    public long getSeed() {
+        return _seed;
+    }
+
+    public long getCount() {
+        return _count;
+    }
+
+    public IdDistribution getIdDistribution() {
+        return _idDistribution;
+    }
+
+    public int getFirstId() {
+        return _firstId;
+    }
+
+    public int getIdRange() {
+        return _idRange;
+    }
+
+    public int getNameCardinality() {
+        return _nameCardinality;
+    }
+
+    public int getAddressCardinality() {
+        return _addressCardinality;
+    }
+
+    public int getMinNameLength() {
+        return _minNameLength;
+    }
+
+    public int getMaxNameLength() {
+        return _maxNameLength;
+    }
+
+    public int getMinAddressLength() {
+        return _minAddressLength;
+    }
+
+    public int getMaxAddressLength() {
+        return _maxAddressLength;
+    }
+
+    //endregion
+
+    //region setters
+
+    public void setIdDistribution(IdDistribution idDistribution) {
+        this._idDistribution = idDistribution;
+    }
+
+    public void setFirstId(int firstId) {
+        this._firstId = firstId;
+    }
+
+    public void setIdRange(int idRange) {
+        requirePositive(idRange, "idRange");
+        this._idRange = idRange;
+    }
+
+    public void setNameCardinality(int nameCardinality) {
+        requirePositive(nameCardinality, "nameCardinality");
+        this._nameCardinality = nameCardinality;
+    }
+
+    public void setAddressCardinality(int addressCardinality) {
+        requirePositive(addressCardinality, "addressCardinality");
+        this._addressCardinality = addressCardinality;
+    }
+
+    public void setNameLength(int minNameLength, int maxNameLength) {
+        requireLengthRange(minNameLength, maxNameLength, "name");
+        this._minNameLength = minNameLength;
+        this._maxNameLength = maxNameLength;
+    }
+
+    public void setAddressLength(int minAddressLength, int maxAddressLength) {
+        requireLengthRange(minAddressLength, maxAddressLength, "address");
+        this._minAddressLength = minAddressLength;
+        this._maxAddressLength = maxAddressLength;
+    }
+
+    //endregion
+
+    //region methods
+
+    // Unique distributions need one int id per record.
+    void validate() {
+        if (_idDistribution != IdDistribution.UNIFORM && _count > (long) Integer.MAX_VALUE - _firstId + 1) {
+            throw new IllegalArgumentException(_count + " unique ids starting at " + _firstId + " do not fit in an int; use UNIFORM ids");
+        }
+        if (_idDistribution == IdDistribution.UNIFORM && (long) _firstId + _idRange - 1 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("idRange " + _idRange + " starting at " + _firstId + " overflows an int");
+        }
+    }
+
+    private static void requirePositive(int value, String name) {
+        if (value < 1) {
+            throw new IllegalArgumentException(name + " must be at least 1");
+        }
+    }
+
+    private static void requireLengthRange(int min, int max, String name) {
+        if (min < 1 || max < min) {
+            throw new IllegalArgumentException("Invalid " + name + " length range [" + min + ", " + max + "]");
+        }
+    }
+
+    //endregion
+}
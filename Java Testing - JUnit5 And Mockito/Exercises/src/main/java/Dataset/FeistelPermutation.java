@@ -0,0 +1,52 @@
+package Dataset;
+
+// Seeded bijection on [0, size) without a lookup table: a balanced Feistel network over the
+// smallest even-bit domain covering size, with cycle-walking to stay inside the range.
+final class FeistelPermutation {
+    //region fields
+    private static final int ROUNDS = 4;
+
+    private final long _size;
+    private final int _halfBits;
+    private final long _halfMask;
+    private final long[] _roundKeys = new long[ROUNDS];
+    //endregion
+
+    //region constructors
+    FeistelPermutation(long size, long seed) {
+        _size = size;
+        int bits = Math.max(2, 64 - Long.numberOfLeadingZeros(Math.max(1, size - 1)));
+        _halfBits = (bits + 1) / 2;
+        _halfMask = (1L << _halfBits) - 1;
+        long key = seed;
+        for (int i = 0; i < ROUNDS; i++) {
+            key = CustomerDatasetGenerator.mix(key + 0x9E3779B97F4A7C15L);
+            _roundKeys[i] = key;
+        }
+    }
+    //endregion
+
+    //region methods
+
+    // The domain is at most four times size, so the expected number of walks stays small.
+    long apply(long index) {
+        long value = index;
+        do {
+            value = encrypt(value);
+        } while (value >= _size);
+        return value;
+    }
+
+    private long encrypt(long value) {
+        long left = value >>> _halfBits;
+        long right = value & _halfMask;
+        for (long roundKey : _roundKeys) {
+            long next = left ^ (CustomerDatasetGenerator.mix(right ^ roundKey) & _halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << _halfBits) | right;
+    }
+
+    //endregion
+}
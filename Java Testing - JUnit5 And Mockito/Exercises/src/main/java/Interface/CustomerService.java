@@ -1,13 +1,19 @@
 package Interface;
 
 import models.Customer;
+import models.CustomerField;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public interface CustomerService {
     void addCustomer(Customer customer);
     Customer getCustomerById(int custId);
+    Customer getCustomerById(int custId, Set<CustomerField> fields);
+    List<Customer> getCustomersByIds(Collection<Integer> custIds);
     List<Customer> getAllCustomers();
+    List<Customer> getAllCustomers(Set<CustomerField> fields);
     void removeCustomer(int custId);
     void updateCustomerName(int custId, String updatedCustomerName);
 }
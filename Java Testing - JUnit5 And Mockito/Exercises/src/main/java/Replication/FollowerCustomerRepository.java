@@ -0,0 +1,213 @@
+package Replication;
+
+import Repository.CustomerRepository;
+import models.Customer;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Read-only replica of a PrimaryCustomerRepository. Each received batch is applied under a
+// single write lock and reads return copies taken under the read lock, so readers never
+// observe half of a batch, nor a held customer changing under them.
+public class FollowerCustomerRepository extends CustomerRepository implements Closeable {
+    //region fields
+    private final ReadWriteLock _lock = new ReentrantReadWriteLock();
+    private final Object _progress = new Object();
+    private final Socket _socket;
+    private final Thread _replicationThread;
+    private volatile long _appliedSequence = -1;
+    private volatile long _replicationLagMillis;
+    private volatile boolean _connected = true;
+    //endregion
+
+    //region constructors
+    public FollowerCustomerRepository(InetSocketAddress primaryAddress) throws IOException {
+        super();
+        _socket = new Socket();
+        _socket.setTcpNoDelay(true);
+        _socket.connect(primaryAddress);
+        _replicationThread = new Thread(this::replicate, "replication-follower-" + _socket.getLocalPort());
+        _replicationThread.setDaemon(true);
+        _replicationThread.start();
+    }
+    //endregion
+
+    //region replication
+
+    public long getAppliedSequence() {
+        return _appliedSequence;
+    }
+
+    // Time from the oldest mutation of the last applied batch committing on the primary
+    // to the batch being applied here.
+    public long getReplicationLagMillis() {
+        return _replicationLagMillis;
+    }
+
+    public boolean isConnected() {
+        return _connected;
+    }
+
+    public boolean awaitSequence(long sequence, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (_progress) {
+            while (_appliedSequence < sequence && _connected) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(_progress, remaining);
+            }
+            return _appliedSequence >= sequence;
+        }
+    }
+
+    private void replicate() {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(_socket.getInputStream(), ReplicationProtocol.STREAM_BUFFER_SIZE))) {
+            while (true) {
+                byte frame = in.readByte();
+                if (frame == ReplicationProtocol.SNAPSHOT) {
+                    applySnapshot(in);
+                } else if (frame == ReplicationProtocol.BATCH) {
+                    applyBatch(in);
+                } else {
+                    throw new IOException("Unknown replication frame " + frame);
+                }
+            }
+        } catch (IOException e) {
+            // The primary went away or the follower was closed.
+        } finally {
+            _connected = false;
+            synchronized (_progress) {
+                _progress.notifyAll();
+            }
+        }
+    }
+
+    private void applySnapshot(DataInputStream in) throws IOException {
+        long sequence = in.readLong();
+        int count = in.readInt();
+        List<Customer> customers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            customers.add(ReplicationProtocol.readCustomer(in));
+        }
+
+        _lock.writeLock().lock();
+        try {
+            List<Customer> current = super.getAllCustomers();
+            current.clear();
+            current.addAll(customers);
+        } finally {
+            _lock.writeLock().unlock();
+        }
+        markApplied(sequence, 0);
+    }
+
+    private void applyBatch(DataInputStream in) throws IOException {
+        long committedAtMillis = in.readLong();
+        int count = in.readInt();
+        List<Mutation> batch = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            batch.add(Mutation.readFrom(in));
+        }
+
+        _lock.writeLock().lock();
+        try {
+            for (Mutation mutation : batch) {
+                mutation.applyTo(this);
+            }
+        } finally {
+            _lock.writeLock().unlock();
+        }
+        markApplied(batch.get(batch.size() - 1).getSequence(), Math.max(0, System.currentTimeMillis() - committedAtMillis));
+    }
+
+    private void markApplied(long sequence, long lagMillis) {
+        synchronized (_progress) {
+            _appliedSequence = sequence;
+            _replicationLagMillis = lagMillis;
+            _progress.notifyAll();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        _socket.close();
+    }
+
+    //endregion
+
+    //region methods
+
+    @Override
+    public void addCustomer(Customer customer) {
+        requireReplicationThread();
+        super.addCustomer(customer);
+    }
+
+    @Override
+    public Customer getCustomerById(int custId) {
+        _lock.readLock().lock();
+        try {
+            Customer customer = super.getCustomerById(custId);
+            return customer == null ? null : new Customer(customer);
+        } finally {
+            _lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Customer> getCustomersByIds(Collection<Integer> custIds) {
+        _lock.readLock().lock();
+        try {
+            return super.getCustomersByIds(custIds);
+        } finally {
+            _lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Customer> getAllCustomers() {
+        _lock.readLock().lock();
+        try {
+            List<Customer> customers = new ArrayList<>(super.getAllCustomers().size());
+            for (Customer customer : super.getAllCustomers()) {
+                customers.add(new Customer(customer));
+            }
+            return customers;
+        } finally {
+            _lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeCustomer(int custId) {
+        requireReplicationThread();
+        super.removeCustomer(custId);
+    }
+
+    @Override
+    public void updateCustomerName(int custId, String updatedCustomerName) {
+        requireReplicationThread();
+        super.updateCustomerName(custId, updatedCustomerName);
+    }
+
+    private void requireReplicationThread() {
+        if (Thread.currentThread() != _replicationThread) {
+            throw new UnsupportedOperationException("Follower repositories are read-only; write to the primary");
+        }
+    }
+
+    //endregion
+}
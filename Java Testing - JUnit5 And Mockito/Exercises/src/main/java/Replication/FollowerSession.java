@@ -0,0 +1,104 @@
+package Replication;
+
+import models.Customer;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+// Streams one follower: the snapshot first, then every mutation queued since the snapshot
+// was taken. The primary never waits on the follower; mutations are drained in batches and
+// flushed once per batch. A follower that falls more than maxPendingMutations behind is
+// disconnected and has to reconnect for a fresh snapshot.
+final class FollowerSession implements Closeable {
+    //region fields
+    private final Socket _socket;
+    private final List<Customer> _snapshot;
+    private final long _snapshotSequence;
+    private final BlockingQueue<Mutation> _pending;
+    private final Consumer<FollowerSession> _onDisconnect;
+    private final Thread _senderThread;
+    private volatile boolean _closed;
+    //endregion
+
+    //region constructors
+    FollowerSession(Socket socket, List<Customer> snapshot, long snapshotSequence, int maxPendingMutations,
+                    Consumer<FollowerSession> onDisconnect) {
+        _socket = socket;
+        _pending = new ArrayBlockingQueue<>(maxPendingMutations);
+        _snapshot = snapshot;
+        _snapshotSequence = snapshotSequence;
+        _onDisconnect = onDisconnect;
+        _senderThread = new Thread(this::run, "replication-sender-" + socket.getRemoteSocketAddress());
+        _senderThread.setDaemon(true);
+    }
+    //endregion
+
+    //region methods
+
+    void start() {
+        _senderThread.start();
+    }
+
+    void enqueue(Mutation mutation) {
+        if (!_closed && !_pending.offer(mutation)) {
+            close();
+        }
+    }
+
+    private void run() {
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(_socket.getOutputStream(), ReplicationProtocol.STREAM_BUFFER_SIZE))) {
+            ByteBuffer scratch = ByteBuffer.allocate(1024);
+
+            out.writeByte(ReplicationProtocol.SNAPSHOT);
+            out.writeLong(_snapshotSequence);
+            out.writeInt(_snapshot.size());
+            for (Customer customer : _snapshot) {
+                scratch = ReplicationProtocol.writeCustomer(out, customer, scratch);
+            }
+            out.flush();
+
+            List<Mutation> batch = new ArrayList<>(ReplicationProtocol.MAX_BATCH_SIZE);
+            while (!_closed) {
+                batch.add(_pending.take());
+                _pending.drainTo(batch, ReplicationProtocol.MAX_BATCH_SIZE - 1);
+
+                out.writeByte(ReplicationProtocol.BATCH);
+                out.writeLong(batch.get(0).getCommittedAtMillis());
+                out.writeInt(batch.size());
+                for (Mutation mutation : batch) {
+                    scratch = mutation.writeTo(out, scratch);
+                }
+                out.flush();
+                batch.clear();
+            }
+        } catch (IOException | InterruptedException e) {
+            // The follower went away or the primary is shutting down.
+        } finally {
+            close();
+            _onDisconnect.accept(this);
+        }
+    }
+
+    @Override
+    public void close() {
+        _closed = true;
+        _senderThread.interrupt();
+        try {
+            _socket.close();
+        } catch (IOException e) {
+            // Already closed.
+        }
+    }
+
+    //endregion
+}
@@ -0,0 +1,94 @@
+package Replication;
+
+import Repository.CustomerRepository;
+import models.Customer;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+final class Mutation {
+    //region fields
+    private static final byte ADD = 1;
+    private static final byte REMOVE = 2;
+    private static final byte UPDATE_NAME = 3;
+
+    private final byte _type;
+    private final long _sequence;
+    private final Customer _customer;
+    private final int _custId;
+    private final String _customerName;
+    private final long _committedAtMillis = System.currentTimeMillis();
+    //endregion
+
+    //region constructors
+    private Mutation(byte type, long sequence, Customer customer, int custId, String customerName) {
+        _type = type;
+        _sequence = sequence;
+        _customer = customer;
+        _custId = custId;
+        _customerName = customerName;
+    }
+
+    static Mutation add(long sequence, Customer customer) {
+        return new Mutation(ADD, sequence, new Customer(customer), customer.getCustId(), null);
+    }
+
+    static Mutation remove(long sequence, int custId) {
+        return new Mutation(REMOVE, sequence, null, custId, null);
+    }
+
+    static Mutation updateName(long sequence, int custId, String customerName) {
+        return new Mutation(UPDATE_NAME, sequence, null, custId, customerName);
+    }
+    //endregion
+
+    //region methods
+
+    long getSequence() {
+        return _sequence;
+    }
+
+    long getCommittedAtMillis() {
+        return _committedAtMillis;
+    }
+
+    void applyTo(CustomerRepository repository) {
+        switch (_type) {
+            case ADD -> repository.addCustomer(_customer);
+            case REMOVE -> repository.removeCustomer(_custId);
+            case UPDATE_NAME -> repository.updateCustomerName(_custId, _customerName);
+            default -> throw new IllegalStateException("Unknown mutation type " + _type);
+        }
+    }
+
+    ByteBuffer writeTo(DataOutputStream out, ByteBuffer scratch) throws IOException {
+        out.writeByte(_type);
+        out.writeLong(_sequence);
+        switch (_type) {
+            case ADD -> scratch = ReplicationProtocol.writeCustomer(out, _customer, scratch);
+            case REMOVE -> out.writeInt(_custId);
+            // Sent as a customer record carrying only the name, so it uses the codec's UTF-8.
+            case UPDATE_NAME -> scratch = ReplicationProtocol.writeCustomer(out, new Customer(_custId, _customerName, null, null), scratch);
+            default -> throw new IllegalStateException("Unknown mutation type " + _type);
+        }
+        return scratch;
+    }
+
+    static Mutation readFrom(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        long sequence = in.readLong();
+        return switch (type) {
+            case ADD -> add(sequence, ReplicationProtocol.readCustomer(in));
+            case REMOVE -> remove(sequence, in.readInt());
+            case UPDATE_NAME -> {
+                Customer renamed = ReplicationProtocol.readCustomer(in);
+                yield updateName(sequence, renamed.getCustId(), renamed.getCustomerName());
+            }
+            default -> throw new IOException("Unknown mutation type " + type);
+        };
+    }
+
+    //endregion
+}
@@ -0,0 +1,158 @@
+package Replication;
+
+import Repository.CustomerRepository;
+import models.Customer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// In-memory repository that streams every mutation to the followers connected to it. It
+// stores and hands out copies, so setters on a customer object never bypass replication.
+public class PrimaryCustomerRepository extends CustomerRepository implements Closeable {
+    //region fields
+    private final Object _lock = new Object();
+    private final List<FollowerSession> _sessions = new CopyOnWriteArrayList<>();
+    private final int _maxPendingMutations;
+    private long _sequence;
+    private ServerSocket _serverSocket;
+    private Thread _acceptThread;
+    //endregion
+
+    //region constructors
+    public PrimaryCustomerRepository() {
+        this(ReplicationProtocol.MAX_PENDING_MUTATIONS);
+    }
+
+    PrimaryCustomerRepository(int maxPendingMutations) {
+        super();
+        _maxPendingMutations = maxPendingMutations;
+    }
+    //endregion
+
+    //region replication
+
+    public void start(InetSocketAddress bindAddress) throws IOException {
+        _serverSocket = new ServerSocket();
+        _serverSocket.bind(bindAddress);
+        _acceptThread = new Thread(this::acceptFollowers, "replication-accept-" + getPort());
+        _acceptThread.setDaemon(true);
+        _acceptThread.start();
+    }
+
+    public int getPort() {
+        return _serverSocket.getLocalPort();
+    }
+
+    public long getSequence() {
+        synchronized (_lock) {
+            return _sequence;
+        }
+    }
+
+    public int getFollowerCount() {
+        return _sessions.size();
+    }
+
+    private void acceptFollowers() {
+        while (!_serverSocket.isClosed()) {
+            try {
+                Socket socket = _serverSocket.accept();
+                socket.setTcpNoDelay(true);
+
+                // Snapshot and registration happen under the mutation lock, so the follower
+                // receives exactly the mutations after the snapshot's sequence.
+                FollowerSession session;
+                synchronized (_lock) {
+                    List<Customer> snapshot = new ArrayList<>();
+                    for (Customer customer : super.getAllCustomers()) {
+                        snapshot.add(new Customer(customer));
+                    }
+                    session = new FollowerSession(socket, snapshot, _sequence, _maxPendingMutations, _sessions::remove);
+                    _sessions.add(session);
+                }
+                session.start();
+            } catch (IOException e) {
+                // Server socket closed.
+            }
+        }
+    }
+
+    private void publish(Mutation mutation) {
+        for (FollowerSession session : _sessions) {
+            session.enqueue(mutation);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (_serverSocket != null) {
+            _serverSocket.close();
+        }
+        for (FollowerSession session : _sessions) {
+            session.close();
+        }
+    }
+
+    //endregion
+
+    //region methods
+
+    @Override
+    public void addCustomer(Customer customer) {
+        synchronized (_lock) {
+            super.addCustomer(new Customer(customer));
+            publish(Mutation.add(++_sequence, customer));
+        }
+    }
+
+    @Override
+    public Customer getCustomerById(int custId) {
+        synchronized (_lock) {
+            Customer customer = super.getCustomerById(custId);
+            return customer == null ? null : new Customer(customer);
+        }
+    }
+
+    @Override
+    public List<Customer> getCustomersByIds(Collection<Integer> custIds) {
+        synchronized (_lock) {
+            return super.getCustomersByIds(custIds);
+        }
+    }
+
+    @Override
+    public List<Customer> getAllCustomers() {
+        synchronized (_lock) {
+            List<Customer> customers = new ArrayList<>(super.getAllCustomers().size());
+            for (Customer customer : super.getAllCustomers()) {
+                customers.add(new Customer(customer));
+            }
+            return customers;
+        }
+    }
+
+    @Override
+    public void removeCustomer(int custId) {
+        synchronized (_lock) {
+            super.removeCustomer(custId);
+            publish(Mutation.remove(++_sequence, custId));
+        }
+    }
+
+    @Override
+    public void updateCustomerName(int custId, String updatedCustomerName) {
+        synchronized (_lock) {
+            super.updateCustomerName(custId, updatedCustomerName);
+            publish(Mutation.updateName(++_sequence, custId, updatedCustomerName));
+        }
+    }
+
+    //endregion
+}
@@ -0,0 +1,52 @@
+package Replication;
+
+import Codec.CustomerCodec;
+import models.Customer;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+// Frames sent from the primary to a follower:
+//   SNAPSHOT: sequence (long), count (int), count customers
+//   BATCH:    committedAtMillis of the oldest mutation (long), count (int), count mutations
+// Customers are length-prefixed records in the CustomerCodec format.
+final class ReplicationProtocol {
+    //region fields
+    static final byte SNAPSHOT = 'S';
+    static final byte BATCH = 'B';
+
+    static final int MAX_BATCH_SIZE = 512;
+    static final int MAX_PENDING_MUTATIONS = 64 * 1024;
+    static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    //endregion
+
+    //region constructors
+    private ReplicationProtocol() {
+    }
+    //endregion
+
+    //region methods
+
+    // Returns the scratch buffer to reuse, which is replaced when the customer does not fit.
+    static ByteBuffer writeCustomer(DataOutputStream out, Customer customer, ByteBuffer scratch) throws IOException {
+        int size = CustomerCodec.encodedSize(customer);
+        if (scratch.capacity() < size) {
+            scratch = ByteBuffer.allocate(Math.max(size, scratch.capacity() * 2));
+        }
+        scratch.clear();
+        CustomerCodec.encode(customer, scratch);
+        out.writeInt(size);
+        out.write(scratch.array(), 0, size);
+        return scratch;
+    }
+
+    static Customer readCustomer(DataInputStream in) throws IOException {
+        byte[] record = new byte[in.readInt()];
+        in.readFully(record);
+        return CustomerCodec.decode(ByteBuffer.wrap(record));
+    }
+
+    //endregion
+}
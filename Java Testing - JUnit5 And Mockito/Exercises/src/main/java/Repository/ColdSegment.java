@@ -0,0 +1,92 @@
+package Repository;
+
+import Codec.CustomerCodec;
+import models.Customer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Append-only memory-mapped file of CustomerCodec records. Records are never rewritten in
+// place; superseded ones only reduce the live byte count until the segment is compacted.
+final class ColdSegment {
+    //region fields
+    private final int _id;
+    private final Path _path;
+    private final FileChannel _channel;
+    private final MappedByteBuffer _buffer;
+    private int _writePosition;
+    private int _liveBytes;
+    //endregion
+
+    //region constructors
+    private ColdSegment(int id, Path path, FileChannel channel, MappedByteBuffer buffer) {
+        _id = id;
+        _path = path;
+        _channel = channel;
+        _buffer = buffer;
+    }
+
+    static ColdSegment create(Path directory, int id, int size) throws IOException {
+        Path path = directory.resolve(String.format("segment-%06d.dat", id));
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new ColdSegment(id, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+    }
+    //endregion
+
+    //region methods
+
+    int getId() {
+        return _id;
+    }
+
+    ByteBuffer getBuffer() {
+        return _buffer;
+    }
+
+    int getWritePosition() {
+        return _writePosition;
+    }
+
+    int getLiveBytes() {
+        return _liveBytes;
+    }
+
+    boolean hasRoom(int length) {
+        return _buffer.capacity() - _writePosition >= length;
+    }
+
+    // Returns the offset of the record; the caller must have checked hasRoom.
+    int append(Customer customer) {
+        int offset = _writePosition;
+        _buffer.position(offset);
+        int length = CustomerCodec.encode(customer, _buffer);
+        _writePosition += length;
+        _liveBytes += length;
+        return offset;
+    }
+
+    int appendRaw(ColdSegment source, int sourceOffset, int length) {
+        int offset = _writePosition;
+        _buffer.put(offset, source._buffer, sourceOffset, length);
+        _writePosition += length;
+        _liveBytes += length;
+        return offset;
+    }
+
+    void release(int length) {
+        _liveBytes -= length;
+    }
+
+    void delete() throws IOException {
+        _channel.close();
+        Files.deleteIfExists(_path);
+    }
+
+    //endregion
+}
@@ -1,10 +1,14 @@
 package Repository;
 
 import models.Customer;
+import models.CustomerField;
 
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 public class CustomerRepository {
     //region fields
@@ -36,10 +40,31 @@ public class CustomerRepository {
         return null;
     }
 
+    // In-memory customers are already fully resident, so the projection is ignored.
+    public Customer getCustomerById(int custId, Set<CustomerField> fields) {
+        return getCustomerById(custId);
+    }
+
+    // Customers that do not exist are left out; duplicate ids are returned once.
+    public List<Customer> getCustomersByIds(Collection<Integer> custIds) {
+        List<Customer> customers = new ArrayList<>();
+        for (int custId : new LinkedHashSet<>(custIds)) {
+            Customer customer = getCustomerById(custId);
+            if (customer != null) {
+                customers.add(customer);
+            }
+        }
+        return customers;
+    }
+
     public List<Customer> getAllCustomers() {
         return this._customers;
     }
 
+    public List<Customer> getAllCustomers(Set<CustomerField> fields) {
+        return getAllCustomers();
+    }
+
     public void removeCustomer(int custId) {
         Customer customerToRemove = null;
         for(Customer customer : _customers){
@@ -0,0 +1,190 @@
+package Repository;
+
+import models.Customer;
+import models.CustomerField;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class JdbcCustomerRepository extends CustomerRepository {
+    //region fields
+    private static final String TABLE_NAME = "customers";
+
+    private final Connection _dbConnection;
+    //endregion
+
+    //region constructors
+    public JdbcCustomerRepository(Connection dbConnection) {
+        super(dbConnection);
+        this._dbConnection = dbConnection;
+    }
+    //endregion
+
+    //region methods
+
+    @Override
+    public void addCustomer(Customer customer) {
+        String sql = "INSERT INTO " + TABLE_NAME + " (cust_id, customer_name, contact_number, address) VALUES (?, ?, ?, ?)";
+        try (PreparedStatement stmt = _dbConnection.prepareStatement(sql)) {
+            stmt.setInt(1, customer.getCustId());
+            stmt.setString(2, customer.getCustomerName());
+            stmt.setString(3, customer.getContactNumber());
+            stmt.setString(4, customer.getAddress());
+            stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not add customer " + customer.getCustId(), e);
+        }
+    }
+
+    @Override
+    public Customer getCustomerById(int custId) {
+        return getCustomerById(custId, CustomerField.all());
+    }
+
+    @Override
+    public Customer getCustomerById(int custId, Set<CustomerField> fields) {
+        Set<CustomerField> projection = projectionOf(fields);
+        String sql = "SELECT " + columnsOf(projection) + " FROM " + TABLE_NAME + " WHERE cust_id = ?";
+        try (PreparedStatement stmt = _dbConnection.prepareStatement(sql)) {
+            stmt.setInt(1, custId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? mapRow(rs, projection) : null;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not read customer " + custId, e);
+        }
+    }
+
+    @Override
+    public List<Customer> getCustomersByIds(Collection<Integer> custIds) {
+        Set<Integer> uniqueIds = new LinkedHashSet<>(custIds);
+        if (uniqueIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(uniqueIds.size(), "?"));
+        String sql = "SELECT " + columnsOf(CustomerField.all()) + " FROM " + TABLE_NAME + " WHERE cust_id IN (" + placeholders + ")";
+        List<Customer> customers = new ArrayList<>(uniqueIds.size());
+        try (PreparedStatement stmt = _dbConnection.prepareStatement(sql)) {
+            int index = 1;
+            for (int custId : uniqueIds) {
+                stmt.setInt(index++, custId);
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    customers.add(mapRow(rs, CustomerField.all()));
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not read customers " + uniqueIds, e);
+        }
+        return customers;
+    }
+
+    @Override
+    public List<Customer> getAllCustomers() {
+        return getAllCustomers(CustomerField.all());
+    }
+
+    @Override
+    public List<Customer> getAllCustomers(Set<CustomerField> fields) {
+        Set<CustomerField> projection = projectionOf(fields);
+        String sql = "SELECT " + columnsOf(projection) + " FROM " + TABLE_NAME + " ORDER BY cust_id";
+        List<Customer> customers = new ArrayList<>();
+        try (PreparedStatement stmt = _dbConnection.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                customers.add(mapRow(rs, projection));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not read customers", e);
+        }
+        return customers;
+    }
+
+    @Override
+    public void removeCustomer(int custId) {
+        String sql = "DELETE FROM " + TABLE_NAME + " WHERE cust_id = ?";
+        try (PreparedStatement stmt = _dbConnection.prepareStatement(sql)) {
+            stmt.setInt(1, custId);
+            stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not remove customer " + custId, e);
+        }
+    }
+
+    @Override
+    public void updateCustomerName(int custId, String updatedCustomerName) {
+        String sql = "UPDATE " + TABLE_NAME + " SET customer_name = ? WHERE cust_id = ?";
+        try (PreparedStatement stmt = _dbConnection.prepareStatement(sql)) {
+            stmt.setString(1, updatedCustomerName);
+            stmt.setInt(2, custId);
+            stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not update customer " + custId, e);
+        }
+    }
+
+    void loadFields(LazyCustomer customer, Set<CustomerField> fields) {
+        String sql = "SELECT " + columnsOf(fields) + " FROM " + TABLE_NAME + " WHERE cust_id = ?";
+        try (PreparedStatement stmt = _dbConnection.prepareStatement(sql)) {
+            stmt.setInt(1, customer.getCustId());
+            try (ResultSet rs = stmt.executeQuery()) {
+                boolean found = rs.next();
+                for (CustomerField field : fields) {
+                    // A setter may have run while the query was in flight; applyLoaded keeps the caller's value.
+                    customer.applyLoaded(field, found ? rs.getString(field.getColumnName()) : null);
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not load " + fields + " for customer " + customer.getCustId(), e);
+        }
+    }
+
+    private Customer mapRow(ResultSet rs, Set<CustomerField> projection) throws SQLException {
+        int custId = rs.getInt(CustomerField.CUST_ID.getColumnName());
+        Customer customer = projection.containsAll(CustomerField.all())
+                ? new Customer()
+                : new LazyCustomer(this, custId, projection);
+        customer.setCustId(custId);
+        for (CustomerField field : projection) {
+            if (field != CustomerField.CUST_ID) {
+                applyField(customer, field, rs.getString(field.getColumnName()));
+            }
+        }
+        return customer;
+    }
+
+    private static void applyField(Customer customer, CustomerField field, String value) {
+        switch (field) {
+            case CUSTOMER_NAME -> customer.setCustomerName(value);
+            case CONTACT_NUMBER -> customer.setContactNumber(value);
+            case ADDRESS -> customer.setAddress(value);
+            default -> { }
+        }
+    }
+
+    private static Set<CustomerField> projectionOf(Set<CustomerField> fields) {
+        Set<CustomerField> projection = fields.isEmpty() ? EnumSet.noneOf(CustomerField.class) : EnumSet.copyOf(fields);
+        projection.add(CustomerField.CUST_ID);
+        return projection;
+    }
+
+    private static String columnsOf(Set<CustomerField> fields) {
+        return fields.stream()
+                .map(CustomerField::getColumnName)
+                .collect(Collectors.joining(", "));
+    }
+
+    //endregion
+}
@@ -0,0 +1,124 @@
+package Repository;
+
+import models.Customer;
+import models.CustomerField;
+
+import java.io.Serial;
+import java.util.EnumSet;
+import java.util.Set;
+
+// Customer read through a projection; the columns that were not selected are fetched on first access.
+class LazyCustomer extends Customer {
+    //region fields
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // Never serialized: writeReplace sends a plain, fully loaded Customer instead.
+    private final transient JdbcCustomerRepository _repository;
+    private final transient Set<CustomerField> _loadedFields;
+    //endregion
+
+    //region constructors
+    LazyCustomer(JdbcCustomerRepository repository, int custId, Set<CustomerField> loadedFields) {
+        super(custId, null, null, null);
+        _repository = repository;
+        _loadedFields = EnumSet.copyOf(loadedFields);
+        _loadedFields.add(CustomerField.CUST_ID);
+    }
+    //endregion
+
+    //region getters
+
+    @Override
+    public String getCustomerName() {
+        ensureLoaded(CustomerField.CUSTOMER_NAME);
+        return super.getCustomerName();
+    }
+
+    @Override
+    public String getContactNumber() {
+        ensureLoaded(CustomerField.CONTACT_NUMBER);
+        return super.getContactNumber();
+    }
+
+    @Override
+    public String getAddress() {
+        ensureLoaded(CustomerField.ADDRESS);
+        return super.getAddress();
+    }
+
+    boolean isLoaded(CustomerField field) {
+        synchronized (_loadedFields) {
+            return _loadedFields.contains(field);
+        }
+    }
+
+    //endregion
+
+    //region setters
+
+    @Override
+    public void setCustomerName(String customerName) {
+        synchronized (_loadedFields) {
+            _loadedFields.add(CustomerField.CUSTOMER_NAME);
+            super.setCustomerName(customerName);
+        }
+    }
+
+    @Override
+    public void setContactNumber(String contactNumber) {
+        synchronized (_loadedFields) {
+            _loadedFields.add(CustomerField.CONTACT_NUMBER);
+            super.setContactNumber(contactNumber);
+        }
+    }
+
+    @Override
+    public void setAddress(String address) {
+        synchronized (_loadedFields) {
+            _loadedFields.add(CustomerField.ADDRESS);
+            super.setAddress(address);
+        }
+    }
+
+    //endregion
+
+    //region methods
+
+    // Stores a value fetched by the repository unless a setter got there first; the check and
+    // the write share the lock the setters take, so the caller's value always wins.
+    void applyLoaded(CustomerField field, String value) {
+        synchronized (_loadedFields) {
+            if (!_loadedFields.add(field)) {
+                return;
+            }
+            switch (field) {
+                case CUSTOMER_NAME -> super.setCustomerName(value);
+                case CONTACT_NUMBER -> super.setContactNumber(value);
+                case ADDRESS -> super.setAddress(value);
+                case CUST_ID -> { }
+            }
+        }
+    }
+
+    // All missing columns are fetched together so a full read costs at most one extra round trip.
+    private void ensureLoaded(CustomerField field) {
+        Set<CustomerField> missing;
+        synchronized (_loadedFields) {
+            if (_loadedFields.contains(field)) {
+                return;
+            }
+            missing = EnumSet.allOf(CustomerField.class);
+            missing.removeAll(_loadedFields);
+        }
+        _repository.loadFields(this, missing);
+    }
+
+    // The repository cannot travel with the object, so serialize a fully loaded copy instead.
+    @Serial
+    private Object writeReplace() {
+        return new Customer(this);
+    }
+
+    //endregion
+}
@@ -0,0 +1,395 @@
+package Repository;
+
+import Codec.CustomerCodec;
+import Codec.CustomerView;
+import models.Customer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Keeps at most hotCapacity customers as heap objects and spills the rest to memory-mapped
+// segment files in the CustomerCodec format. A cold customer is promoted when it has been
+// read more often than a sampled hot customer, which is demoted in its place. Access counts
+// are halved every decay period so that old popularity fades.
+//
+// custId is the key: adding an existing id replaces it. Both tiers store their own copy and
+// hand out copies, so which tier a customer is in never shows to callers: changes must go
+// through updateCustomerName to be kept. Each instance keeps its segments in a fresh
+// subdirectory of the given directory, which is scratch space and is deleted on close.
+public class TieredCustomerRepository extends CustomerRepository implements Closeable {
+    //region fields
+    private static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+    private static final Duration DEFAULT_COMPACTION_INTERVAL = Duration.ofSeconds(30);
+    private static final int VICTIM_SAMPLE_SIZE = 5;
+    private static final double COMPACTION_LIVE_RATIO = 0.5;
+
+    private final Object _lock = new Object();
+    private final Path _directory;
+    private final int _hotCapacity;
+    private final int _segmentSize;
+    private final long _decayPeriod;
+    private final Map<Integer, Entry> _index = new LinkedHashMap<>();
+    private final List<Entry> _hotEntries = new ArrayList<>();
+    private final Map<Integer, ColdSegment> _segments = new LinkedHashMap<>();
+    private final CustomerView _view = new CustomerView();
+    private final ScheduledExecutorService _compactor;
+    private ColdSegment _activeSegment;
+    private int _nextSegmentId;
+    private long _accessCount;
+
+    private static final class Entry {
+        private Customer _hot;
+        private int _hotSlot = -1;
+        private ColdSegment _segment;
+        private int _offset;
+        private int _length;
+        private int _frequency;
+        private long _epoch;
+    }
+    //endregion
+
+    //region constructors
+    public TieredCustomerRepository(Path directory, int hotCapacity) throws IOException {
+        this(directory, hotCapacity, DEFAULT_SEGMENT_SIZE, DEFAULT_COMPACTION_INTERVAL);
+    }
+
+    public TieredCustomerRepository(Path directory, int hotCapacity, int segmentSize, Duration compactionInterval) throws IOException {
+        super();
+        if (hotCapacity < 1) {
+            throw new IllegalArgumentException("hotCapacity must be at least 1");
+        }
+        _directory = Files.createTempDirectory(Files.createDirectories(directory), "customers-");
+        _hotCapacity = hotCapacity;
+        _segmentSize = segmentSize;
+        _decayPeriod = Math.max(10L * hotCapacity, 1000);
+        _compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "customer-segment-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = compactionInterval.toMillis();
+        _compactor.scheduleWithFixedDelay(this::compactQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+    //endregion
+
+    //region methods
+
+    @Override
+    public void addCustomer(Customer customer) {
+        synchronized (_lock) {
+            Entry existing = _index.remove(customer.getCustId());
+            if (existing != null) {
+                drop(existing);
+            }
+
+            Entry entry = new Entry();
+            entry._frequency = 1;
+            entry._epoch = currentEpoch();
+            if (_hotEntries.size() < _hotCapacity) {
+                makeHot(entry, new Customer(customer));
+            } else {
+                writeCold(entry, customer);
+            }
+            _index.put(customer.getCustId(), entry);
+        }
+    }
+
+    @Override
+    public Customer getCustomerById(int custId) {
+        synchronized (_lock) {
+            Entry entry = _index.get(custId);
+            if (entry == null) {
+                return null;
+            }
+            touch(entry);
+            if (entry._hot != null) {
+                return new Customer(entry._hot);
+            }
+            Customer customer = readCold(entry);
+            maybePromote(entry, customer);
+            return new Customer(customer);
+        }
+    }
+
+    // A full scan does not count as access, so it cannot flush the hot tier.
+    @Override
+    public List<Customer> getAllCustomers() {
+        synchronized (_lock) {
+            List<Customer> customers = new ArrayList<>(_index.size());
+            for (Entry entry : _index.values()) {
+                customers.add(entry._hot != null ? new Customer(entry._hot) : readCold(entry));
+            }
+            return customers;
+        }
+    }
+
+    @Override
+    public void removeCustomer(int custId) {
+        synchronized (_lock) {
+            Entry entry = _index.remove(custId);
+            if (entry != null) {
+                drop(entry);
+            }
+        }
+    }
+
+    @Override
+    public void updateCustomerName(int custId, String updatedCustomerName) {
+        synchronized (_lock) {
+            Entry entry = _index.get(custId);
+            if (entry == null) {
+                return;
+            }
+            touch(entry);
+            if (entry._hot != null) {
+                entry._hot.setCustomerName(updatedCustomerName);
+                releaseCold(entry);
+                return;
+            }
+            Customer customer = readCold(entry);
+            customer.setCustomerName(updatedCustomerName);
+            writeCold(entry, customer);
+            maybePromote(entry, customer);
+        }
+    }
+
+    //endregion
+
+    //region tiering
+
+    public int getHotCount() {
+        synchronized (_lock) {
+            return _hotEntries.size();
+        }
+    }
+
+    public int getColdCount() {
+        synchronized (_lock) {
+            return _index.size() - _hotEntries.size();
+        }
+    }
+
+    public int getSegmentCount() {
+        synchronized (_lock) {
+            return _segments.size();
+        }
+    }
+
+    boolean isHot(int custId) {
+        synchronized (_lock) {
+            Entry entry = _index.get(custId);
+            return entry != null && entry._hot != null;
+        }
+    }
+
+    Path getDirectory() {
+        return _directory;
+    }
+
+    private long currentEpoch() {
+        return _accessCount / _decayPeriod;
+    }
+
+    private int frequency(Entry entry) {
+        long epoch = currentEpoch();
+        if (entry._epoch < epoch) {
+            entry._frequency >>>= (int) Math.min(31, epoch - entry._epoch);
+            entry._epoch = epoch;
+        }
+        return entry._frequency;
+    }
+
+    private void touch(Entry entry) {
+        _accessCount++;
+        if (frequency(entry) < Integer.MAX_VALUE) {
+            entry._frequency++;
+        }
+    }
+
+    private void maybePromote(Entry entry, Customer customer) {
+        if (_hotEntries.size() < _hotCapacity) {
+            makeHot(entry, customer);
+            return;
+        }
+        Entry victim = sampleVictim();
+        if (frequency(entry) > frequency(victim)) {
+            demote(victim);
+            makeHot(entry, customer);
+        }
+    }
+
+    private Entry sampleVictim() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Entry victim = null;
+        for (int i = 0; i < VICTIM_SAMPLE_SIZE; i++) {
+            Entry candidate = _hotEntries.get(random.nextInt(_hotEntries.size()));
+            if (victim == null || frequency(candidate) < frequency(victim)) {
+                victim = candidate;
+            }
+        }
+        return victim;
+    }
+
+    private void makeHot(Entry entry, Customer customer) {
+        entry._hot = customer;
+        entry._hotSlot = _hotEntries.size();
+        _hotEntries.add(entry);
+    }
+
+    // A promoted customer keeps its cold record until it is modified, so demoting an
+    // unchanged customer does not write anything. Hot objects never leave the repository,
+    // so updateCustomerName is the only way one can change.
+    private void demote(Entry entry) {
+        if (entry._segment == null) {
+            writeCold(entry, entry._hot);
+        }
+        removeHot(entry);
+    }
+
+    private void removeHot(Entry entry) {
+        Entry last = _hotEntries.remove(_hotEntries.size() - 1);
+        if (last != entry) {
+            _hotEntries.set(entry._hotSlot, last);
+            last._hotSlot = entry._hotSlot;
+        }
+        entry._hot = null;
+        entry._hotSlot = -1;
+    }
+
+    private void drop(Entry entry) {
+        if (entry._hot != null) {
+            removeHot(entry);
+        }
+        releaseCold(entry);
+    }
+
+    private Customer readCold(Entry entry) {
+        return _view.wrap(entry._segment.getBuffer(), entry._offset).toCustomer();
+    }
+
+    private void writeCold(Entry entry, Customer customer) {
+        releaseCold(entry);
+        int length = CustomerCodec.encodedSize(customer);
+        if (length > _segmentSize) {
+            throw new IllegalArgumentException("Customer " + customer.getCustId() + " does not fit in a " + _segmentSize + " byte segment");
+        }
+        if (_activeSegment == null || !_activeSegment.hasRoom(length)) {
+            rollSegment();
+        }
+        entry._offset = _activeSegment.append(customer);
+        entry._length = length;
+        entry._segment = _activeSegment;
+    }
+
+    private void releaseCold(Entry entry) {
+        if (entry._segment != null) {
+            entry._segment.release(entry._length);
+            entry._segment = null;
+        }
+    }
+
+    private void rollSegment() {
+        try {
+            _activeSegment = ColdSegment.create(_directory, _nextSegmentId++, _segmentSize);
+            _segments.put(_activeSegment.getId(), _activeSegment);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create cold segment in " + _directory, e);
+        }
+    }
+
+    //endregion
+
+    //region compaction
+
+    // Rewrites the live records of sealed segments that are mostly garbage into the active
+    // segment and deletes them. Returns the number of segments reclaimed.
+    public int compact() {
+        synchronized (_lock) {
+            int reclaimed = 0;
+            for (ColdSegment segment : new ArrayList<>(_segments.values())) {
+                if (segment != _activeSegment && segment.getLiveBytes() < COMPACTION_LIVE_RATIO * segment.getWritePosition()) {
+                    compactSegment(segment);
+                    reclaimed++;
+                }
+            }
+            return reclaimed;
+        }
+    }
+
+    private void compactSegment(ColdSegment segment) {
+        int offset = 0;
+        while (offset < segment.getWritePosition() && segment.getLiveBytes() > 0) {
+            _view.wrap(segment.getBuffer(), offset);
+            int length = _view.getEncodedLength();
+            Entry entry = _index.get(_view.getCustId());
+            if (entry != null && entry._segment == segment && entry._offset == offset) {
+                if (!_activeSegment.hasRoom(length)) {
+                    rollSegment();
+                }
+                entry._offset = _activeSegment.appendRaw(segment, offset, length);
+                entry._segment = _activeSegment;
+                segment.release(length);
+            }
+            offset += length;
+        }
+
+        // Only forget the segment once its file is gone. Where a mapped file cannot be deleted
+        // (Windows, until the buffer is collected) it stays tracked with no live records, so
+        // the next run skips the copy and retries the delete.
+        try {
+            segment.delete();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not delete cold segment " + segment.getId(), e);
+        }
+        _segments.remove(segment.getId());
+    }
+
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (RuntimeException e) {
+            // Keep the schedule alive; failed segments are still tracked, so the next run retries them.
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        _compactor.shutdownNow();
+        synchronized (_lock) {
+            IOException failure = null;
+            for (ColdSegment segment : _segments.values()) {
+                try {
+                    segment.delete();
+                } catch (IOException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            _segments.clear();
+            _index.clear();
+            _hotEntries.clear();
+            _activeSegment = null;
+            if (failure != null) {
+                throw failure;
+            }
+            Files.deleteIfExists(_directory);
+        }
+    }
+
+    //endregion
+}
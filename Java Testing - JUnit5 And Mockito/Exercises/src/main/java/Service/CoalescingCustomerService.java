@@ -0,0 +1,219 @@
+package Service;
+
+import Interface.CustomerService;
+import models.Customer;
+import models.CustomerField;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Sits in front of another CustomerService so that concurrent getCustomerById calls for the
+// same id share one in-flight load, and loads for different ids arriving within the batch
+// window are merged into a single getCustomersByIds call.
+public class CoalescingCustomerService implements CustomerService, AutoCloseable {
+    //region fields
+    private final CustomerService _delegate;
+    private final long _batchWindowNanos;
+    private final int _maxBatchSize;
+    private final ScheduledExecutorService _loader;
+    private final Map<Integer, CompletableFuture<Customer>> _inFlight = new ConcurrentHashMap<>();
+    private final Object _batchLock = new Object();
+    private List<PendingLoad> _pendingLoads = new ArrayList<>();
+    private boolean _flushScheduled;
+
+    private record PendingLoad(int custId, CompletableFuture<Customer> future) {
+    }
+    //endregion
+
+    //region constructors
+    public CoalescingCustomerService(CustomerService delegate, Duration batchWindow, int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        }
+        _delegate = delegate;
+        _batchWindowNanos = batchWindow.toNanos();
+        _maxBatchSize = maxBatchSize;
+        _loader = Executors.newScheduledThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "customer-coalescing-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    //endregion
+
+    //region coalescing
+
+    private void enqueue(PendingLoad pendingLoad) {
+        List<PendingLoad> fullBatch = null;
+        List<PendingLoad> rejected = null;
+        RejectedExecutionException rejection = null;
+        synchronized (_batchLock) {
+            _pendingLoads.add(pendingLoad);
+            if (_pendingLoads.size() >= _maxBatchSize) {
+                fullBatch = _pendingLoads;
+                _pendingLoads = new ArrayList<>();
+            } else if (!_flushScheduled) {
+                try {
+                    _loader.schedule(this::flush, _batchWindowNanos, TimeUnit.NANOSECONDS);
+                    _flushScheduled = true;
+                } catch (RejectedExecutionException e) {
+                    // Closed: nothing would ever flush these loads.
+                    rejected = _pendingLoads;
+                    _pendingLoads = new ArrayList<>();
+                    rejection = e;
+                }
+            }
+        }
+        if (fullBatch != null) {
+            List<PendingLoad> batch = fullBatch;
+            try {
+                _loader.execute(() -> load(batch));
+            } catch (RejectedExecutionException e) {
+                rejected = batch;
+                rejection = e;
+            }
+        }
+        if (rejected != null) {
+            complete(rejected, Map.of(), new IllegalStateException("CoalescingCustomerService is closed", rejection));
+        }
+    }
+
+    private void flush() {
+        List<PendingLoad> batch;
+        synchronized (_batchLock) {
+            batch = _pendingLoads;
+            _pendingLoads = new ArrayList<>();
+            _flushScheduled = false;
+        }
+        if (!batch.isEmpty()) {
+            load(batch);
+        }
+    }
+
+    private void load(List<PendingLoad> batch) {
+        List<Integer> custIds = new ArrayList<>(batch.size());
+        for (PendingLoad pendingLoad : batch) {
+            custIds.add(pendingLoad.custId());
+        }
+
+        Map<Integer, Customer> loaded = new HashMap<>();
+        Throwable failure = null;
+        try {
+            for (Customer customer : _delegate.getCustomersByIds(custIds)) {
+                loaded.put(customer.getCustId(), customer);
+            }
+        } catch (Throwable e) {
+            // Errors too: a future left incomplete would hang every caller of these ids.
+            failure = e;
+        }
+        complete(batch, loaded, failure);
+    }
+
+    private void complete(List<PendingLoad> batch, Map<Integer, Customer> loaded, Throwable failure) {
+        for (PendingLoad pendingLoad : batch) {
+            // Only remove our own future; a write may already have replaced it with a newer load.
+            _inFlight.remove(pendingLoad.custId(), pendingLoad.future());
+            if (failure != null) {
+                pendingLoad.future().completeExceptionally(failure);
+            } else {
+                pendingLoad.future().complete(loaded.get(pendingLoad.custId()));
+            }
+        }
+    }
+
+    // Callers currently blocked on the in-flight load for custId.
+    int getWaiterCount(int custId) {
+        CompletableFuture<Customer> future = _inFlight.get(custId);
+        return future == null ? 0 : future.getNumberOfDependents();
+    }
+
+    // Readers arriving after a write must not join a load that may have started before it.
+    private void invalidate(int custId) {
+        _inFlight.remove(custId);
+    }
+
+    @Override
+    public void close() {
+        _loader.shutdown();
+    }
+
+    //endregion
+
+    //region methods
+
+    @Override
+    public Customer getCustomerById(int custId) {
+        CompletableFuture<Customer> created = new CompletableFuture<>();
+        CompletableFuture<Customer> future = _inFlight.putIfAbsent(custId, created);
+        if (future == null) {
+            future = created;
+            enqueue(new PendingLoad(custId, created));
+        }
+
+        try {
+            // Every waiter gets its own copy, as it would from an uncoalesced call.
+            Customer customer = future.join();
+            return customer == null ? null : new Customer(customer);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Customer getCustomerById(int custId, Set<CustomerField> fields) {
+        return _delegate.getCustomerById(custId, fields);
+    }
+
+    @Override
+    public List<Customer> getCustomersByIds(Collection<Integer> custIds) {
+        return _delegate.getCustomersByIds(custIds);
+    }
+
+    @Override
+    public void addCustomer(Customer customer) {
+        _delegate.addCustomer(customer);
+        invalidate(customer.getCustId());
+    }
+
+    @Override
+    public List<Customer> getAllCustomers() {
+        return _delegate.getAllCustomers();
+    }
+
+    @Override
+    public List<Customer> getAllCustomers(Set<CustomerField> fields) {
+        return _delegate.getAllCustomers(fields);
+    }
+
+    @Override
+    public void removeCustomer(int custId) {
+        _delegate.removeCustomer(custId);
+        invalidate(custId);
+    }
+
+    @Override
+    public void updateCustomerName(int custId, String updatedCustomerName) {
+        _delegate.updateCustomerName(custId, updatedCustomerName);
+        invalidate(custId);
+    }
+
+    //endregion
+}
@@ -3,8 +3,11 @@ package Service;
 import Interface.CustomerService;
 import Repository.CustomerRepository;
 import models.Customer;
+import models.CustomerField;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public class CustomerServiceImpl implements CustomerService {
     //region fields
@@ -31,11 +34,26 @@ public class CustomerServiceImpl implements CustomerService {
         return customerRepository.getCustomerById(custId);
     }
 
+    @Override
+    public Customer getCustomerById(int custId, Set<CustomerField> fields) {
+        return customerRepository.getCustomerById(custId, fields);
+    }
+
+    @Override
+    public List<Customer> getCustomersByIds(Collection<Integer> custIds) {
+        return customerRepository.getCustomersByIds(custIds);
+    }
+
     @Override
     public List<Customer> getAllCustomers() {
         return customerRepository.getAllCustomers();
     }
 
+    @Override
+    public List<Customer> getAllCustomers(Set<CustomerField> fields) {
+        return customerRepository.getAllCustomers(fields);
+    }
+
     @Override
     public void removeCustomer(int custId) {
         customerRepository.removeCustomer(custId);
@@ -0,0 +1,76 @@
+package Workload;
+
+// Log-linear histogram of nanosecond latencies: 32 linear sub-buckets per power of two,
+// i.e. about 3% relative error at a fixed 16 KB regardless of the number of samples.
+// Not thread-safe; the replayer keeps one per worker and merges them at the end.
+final class LatencyHistogram {
+    //region fields
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final long[] _counts = new long[64 * SUB_BUCKETS];
+    private long _totalCount;
+    private long _maxNanos;
+    //endregion
+
+    //region methods
+
+    void record(long nanos) {
+        long value = Math.max(0, nanos);
+        _counts[indexOf(value)]++;
+        _totalCount++;
+        _maxNanos = Math.max(_maxNanos, value);
+    }
+
+    void add(LatencyHistogram other) {
+        for (int i = 0; i < _counts.length; i++) {
+            _counts[i] += other._counts[i];
+        }
+        _totalCount += other._totalCount;
+        _maxNanos = Math.max(_maxNanos, other._maxNanos);
+    }
+
+    long getTotalCount() {
+        return _totalCount;
+    }
+
+    long getMaxNanos() {
+        return _maxNanos;
+    }
+
+    // Upper bound of the bucket holding the given percentile (0-100).
+    long getPercentileNanos(double percentile) {
+        if (_totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * _totalCount));
+        long seen = 0;
+        for (int i = 0; i < _counts.length; i++) {
+            seen += _counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), _maxNanos);
+            }
+        }
+        return _maxNanos;
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKETS;
+        return ((SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    //endregion
+}
@@ -0,0 +1,68 @@
+package Workload;
+
+import java.util.concurrent.TimeUnit;
+
+public final class ReplayReport {
+    //region fields
+    private final long _operations;
+    private final long _errors;
+    private final long _elapsedNanos;
+    private final LatencyHistogram _latencies;
+    //endregion
+
+    //region constructors
+    ReplayReport(long operations, long errors, long elapsedNanos, LatencyHistogram latencies) {
+        _operations = operations;
+        _errors = errors;
+        _elapsedNanos = elapsedNanos;
+        _latencies = latencies;
+    }
+    //endregion
+
+    //region getters
+
+    public long getOperations() {
+        return _operations;
+    }
+
+    public long getErrors() {
+        return _errors;
+    }
+
+    public long getElapsedNanos() {
+        return _elapsedNanos;
+    }
+
+    public double getThroughputPerSecond() {
+        return _elapsedNanos == 0 ? 0 : _operations * 1e9 / _elapsedNanos;
+    }
+
+    public long getLatencyNanos(double percentile) {
+        return _latencies.getPercentileNanos(percentile);
+    }
+
+    public long getMaxLatencyNanos() {
+        return _latencies.getMaxNanos();
+    }
+
+    //endregion
+
+    @Override
+    public String toString() {
+        return "ReplayReport {" +
+                "operations = " + _operations +
+                ", errors = " + _errors +
+                ", elapsed = " + TimeUnit.NANOSECONDS.toMillis(_elapsedNanos) + " ms" +
+                ", throughput = " + String.format("%.0f", getThroughputPerSecond()) + " ops/s" +
+                ", p50 = " + micros(getLatencyNanos(50)) +
+                ", p90 = " + micros(getLatencyNanos(90)) +
+                ", p99 = " + micros(getLatencyNanos(99)) +
+                ", p99.9 = " + micros(getLatencyNanos(99.9)) +
+                ", max = " + micros(getMaxLatencyNanos()) +
+                '}';
+    }
+
+    private static String micros(long nanos) {
+        return String.format("%.1f us", nanos / 1000.0);
+    }
+}
@@ -0,0 +1,130 @@
+package Workload;
+
+import Interface.CustomerService;
+import models.Customer;
+import models.CustomerField;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+// One recorded call. Traces keep ids and string lengths but never customer data, so replay
+// rebuilds payloads of the recorded sizes from filler text. A length of -1 means null.
+public final class TraceEvent {
+    //region fields
+    private static final String FILLER = "x".repeat(512);
+
+    private final WorkloadOperation _operation;
+    private final long _offsetNanos;
+    private final int _custId;
+    private final int[] _custIds;
+    private final int _fieldsMask;
+    private final int _nameLength;
+    private final int _contactNumberLength;
+    private final int _addressLength;
+    //endregion
+
+    //region constructors
+    TraceEvent(WorkloadOperation operation, long offsetNanos, int custId, int[] custIds, int fieldsMask,
+               int nameLength, int contactNumberLength, int addressLength) {
+        _operation = operation;
+        _offsetNanos = offsetNanos;
+        _custId = custId;
+        _custIds = custIds;
+        _fieldsMask = fieldsMask;
+        _nameLength = nameLength;
+        _contactNumberLength = contactNumberLength;
+        _addressLength = addressLength;
+    }
+    //endregion
+
+    //region getters
+
+    public WorkloadOperation getOperation() {
+        return _operation;
+    }
+
+    // Nanoseconds since the recording started.
+    public long getOffsetNanos() {
+        return _offsetNanos;
+    }
+
+    public int getCustId() {
+        return _custId;
+    }
+
+    public int[] getCustIds() {
+        return _custIds.clone();
+    }
+
+    public Set<CustomerField> getFields() {
+        return fieldsOf(_fieldsMask);
+    }
+
+    public int getNameLength() {
+        return _nameLength;
+    }
+
+    public int getContactNumberLength() {
+        return _contactNumberLength;
+    }
+
+    public int getAddressLength() {
+        return _addressLength;
+    }
+
+    //endregion
+
+    //region methods
+
+    void applyTo(CustomerService target) {
+        switch (_operation) {
+            case ADD -> target.addCustomer(new Customer(_custId, filler(_nameLength), filler(_contactNumberLength), filler(_addressLength)));
+            case GET_BY_ID -> target.getCustomerById(_custId);
+            case GET_BY_ID_PROJECTED -> target.getCustomerById(_custId, getFields());
+            case GET_BY_IDS -> {
+                List<Integer> custIds = new ArrayList<>(_custIds.length);
+                for (int custId : _custIds) {
+                    custIds.add(custId);
+                }
+                target.getCustomersByIds(custIds);
+            }
+            case GET_ALL -> target.getAllCustomers();
+            case GET_ALL_PROJECTED -> target.getAllCustomers(getFields());
+            case REMOVE -> target.removeCustomer(_custId);
+            case UPDATE_NAME -> target.updateCustomerName(_custId, filler(_nameLength));
+        }
+    }
+
+    static int lengthOf(String value) {
+        return value == null ? -1 : value.length();
+    }
+
+    static int maskOf(Set<CustomerField> fields) {
+        int mask = 0;
+        for (CustomerField field : fields) {
+            mask |= 1 << field.ordinal();
+        }
+        return mask;
+    }
+
+    private static Set<CustomerField> fieldsOf(int mask) {
+        Set<CustomerField> fields = EnumSet.noneOf(CustomerField.class);
+        for (CustomerField field : CustomerField.values()) {
+            if ((mask & (1 << field.ordinal())) != 0) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private static String filler(int length) {
+        if (length < 0) {
+            return null;
+        }
+        return length <= FILLER.length() ? FILLER.substring(0, length) : "x".repeat(length);
+    }
+
+    //endregion
+}
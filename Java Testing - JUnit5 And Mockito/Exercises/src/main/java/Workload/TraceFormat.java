@@ -0,0 +1,71 @@
+package Workload;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+// Trace layout: MAGIC (int), then one record per call:
+//   operation code (byte), nanos since the previous record (varlong), operation fields.
+// ids are zigzag varints, lengths are varints of (length + 1) with 0 for null, and field
+// sets are one bit per CustomerField ordinal.
+final class TraceFormat {
+    //region fields
+    static final int MAGIC = 0x43575431; // "CWT1"
+    //endregion
+
+    //region constructors
+    private TraceFormat() {
+    }
+    //endregion
+
+    //region methods
+
+    static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in workload trace");
+    }
+
+    static void writeId(DataOutputStream out, int custId) throws IOException {
+        writeVarLong(out, ((custId << 1) ^ (custId >> 31)) & 0xFFFFFFFFL);
+    }
+
+    static int readId(DataInputStream in) throws IOException {
+        int zigZag = (int) readVarLong(in);
+        return (zigZag >>> 1) ^ -(zigZag & 1);
+    }
+
+    static void writeLength(DataOutputStream out, int length) throws IOException {
+        writeVarLong(out, length + 1L);
+    }
+
+    static int readLength(DataInputStream in) throws IOException {
+        return (int) readVarLong(in) - 1;
+    }
+
+    // Returns -1 at a clean end of stream, i.e. between records.
+    static int readOperationCode(DataInputStream in) throws IOException {
+        try {
+            return in.readUnsignedByte();
+        } catch (EOFException e) {
+            return -1;
+        }
+    }
+
+    //endregion
+}
@@ -0,0 +1,31 @@
+package Workload;
+
+public enum WorkloadOperation {
+    ADD,
+    GET_BY_ID,
+    GET_BY_ID_PROJECTED,
+    GET_BY_IDS,
+    GET_ALL,
+    GET_ALL_PROJECTED,
+    REMOVE,
+    UPDATE_NAME;
+
+    //region fields
+    private static final WorkloadOperation[] VALUES = values();
+    //endregion
+
+    //region methods
+
+    byte getCode() {
+        return (byte) ordinal();
+    }
+
+    static WorkloadOperation fromCode(int code) {
+        if (code < 0 || code >= VALUES.length) {
+            throw new IllegalArgumentException("Unknown workload operation code " + code);
+        }
+        return VALUES[code];
+    }
+
+    //endregion
+}
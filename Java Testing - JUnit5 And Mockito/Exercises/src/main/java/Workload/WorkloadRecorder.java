@@ -0,0 +1,171 @@
+package Workload;
+
+import Interface.CustomerService;
+import models.Customer;
+import models.CustomerField;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+// Wraps a CustomerService and appends every call to a trace before forwarding it. Calls are
+// timestamped under the trace lock, so the trace order is the order the calls started in.
+public class WorkloadRecorder implements CustomerService, Closeable {
+    //region fields
+    private final CustomerService _delegate;
+    private final DataOutputStream _trace;
+    private final ByteArrayOutputStream _scratch = new ByteArrayOutputStream(64);
+    private final DataOutputStream _scratchOut = new DataOutputStream(_scratch);
+    private long _lastTimestampNanos;
+    private long _droppedCount;
+    private boolean _broken;
+    //endregion
+
+    //region constructors
+    public WorkloadRecorder(CustomerService delegate, OutputStream trace) throws IOException {
+        _delegate = delegate;
+        _trace = new DataOutputStream(new BufferedOutputStream(trace, 64 * 1024));
+        _trace.writeInt(TraceFormat.MAGIC);
+        _lastTimestampNanos = System.nanoTime();
+    }
+
+    public WorkloadRecorder(CustomerService delegate, Path trace) throws IOException {
+        this(delegate, Files.newOutputStream(trace));
+    }
+    //endregion
+
+    //region recording
+
+    private interface RecordBody {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    // The record body is encoded into a scratch buffer first and only appended once it is
+    // complete, so a call whose arguments cannot be encoded (e.g. null) is dropped from the
+    // trace instead of leaving half a record behind. Recording never fails the call itself.
+    private void record(WorkloadOperation operation, RecordBody body) {
+        synchronized (_trace) {
+            if (_broken) {
+                _droppedCount++;
+                return;
+            }
+            _scratch.reset();
+            try {
+                body.write(_scratchOut);
+            } catch (IOException | RuntimeException e) {
+                _droppedCount++;
+                return;
+            }
+            long now = System.nanoTime();
+            try {
+                _trace.writeByte(operation.getCode());
+                TraceFormat.writeVarLong(_trace, now - _lastTimestampNanos);
+                _scratch.writeTo(_trace);
+            } catch (IOException e) {
+                // The sink may now hold a partial record, so nothing after it would be readable.
+                _broken = true;
+                _droppedCount++;
+                return;
+            }
+            _lastTimestampNanos = now;
+        }
+    }
+
+    // Calls that were forwarded but could not be written to the trace.
+    public long getDroppedCount() {
+        synchronized (_trace) {
+            return _droppedCount;
+        }
+    }
+
+    public void flush() throws IOException {
+        synchronized (_trace) {
+            _trace.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (_trace) {
+            _trace.close();
+        }
+    }
+
+    //endregion
+
+    //region methods
+
+    @Override
+    public void addCustomer(Customer customer) {
+        record(WorkloadOperation.ADD, out -> {
+            TraceFormat.writeId(out, customer.getCustId());
+            TraceFormat.writeLength(out, TraceEvent.lengthOf(customer.getCustomerName()));
+            TraceFormat.writeLength(out, TraceEvent.lengthOf(customer.getContactNumber()));
+            TraceFormat.writeLength(out, TraceEvent.lengthOf(customer.getAddress()));
+        });
+        _delegate.addCustomer(customer);
+    }
+
+    @Override
+    public Customer getCustomerById(int custId) {
+        record(WorkloadOperation.GET_BY_ID, out -> TraceFormat.writeId(out, custId));
+        return _delegate.getCustomerById(custId);
+    }
+
+    @Override
+    public Customer getCustomerById(int custId, Set<CustomerField> fields) {
+        record(WorkloadOperation.GET_BY_ID_PROJECTED, out -> {
+            TraceFormat.writeId(out, custId);
+            out.writeByte(TraceEvent.maskOf(fields));
+        });
+        return _delegate.getCustomerById(custId, fields);
+    }
+
+    @Override
+    public List<Customer> getCustomersByIds(Collection<Integer> custIds) {
+        record(WorkloadOperation.GET_BY_IDS, out -> {
+            TraceFormat.writeVarLong(out, custIds.size());
+            for (int custId : custIds) {
+                TraceFormat.writeId(out, custId);
+            }
+        });
+        return _delegate.getCustomersByIds(custIds);
+    }
+
+    @Override
+    public List<Customer> getAllCustomers() {
+        record(WorkloadOperation.GET_ALL, out -> { });
+        return _delegate.getAllCustomers();
+    }
+
+    @Override
+    public List<Customer> getAllCustomers(Set<CustomerField> fields) {
+        record(WorkloadOperation.GET_ALL_PROJECTED, out -> out.writeByte(TraceEvent.maskOf(fields)));
+        return _delegate.getAllCustomers(fields);
+    }
+
+    @Override
+    public void removeCustomer(int custId) {
+        record(WorkloadOperation.REMOVE, out -> TraceFormat.writeId(out, custId));
+        _delegate.removeCustomer(custId);
+    }
+
+    @Override
+    public void updateCustomerName(int custId, String updatedCustomerName) {
+        record(WorkloadOperation.UPDATE_NAME, out -> {
+            TraceFormat.writeId(out, custId);
+            TraceFormat.writeLength(out, TraceEvent.lengthOf(updatedCustomerName));
+        });
+        _delegate.updateCustomerName(custId, updatedCustomerName);
+    }
+
+    //endregion
+}
@@ -0,0 +1,112 @@
+package Workload;
+
+import Interface.CustomerService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.LockSupport;
+
+// Drives a CustomerService with the calls of a recorded trace on a pool of worker threads.
+//
+// With a finite speed, the call recorded at offset t is due at start + t / speed, and its
+// latency is measured from that due time, so time spent queued behind a slow target counts
+// (no coordinated omission). At MAX_SPEED calls are issued as fast as the workers take them
+// and latency is measured from when a worker starts the call.
+public class WorkloadReplayer {
+    //region fields
+    public static final double ORIGINAL_SPEED = 1.0;
+    public static final double MAX_SPEED = Double.POSITIVE_INFINITY;
+
+    private static final int QUEUE_SLOTS_PER_THREAD = 256;
+    private static final Scheduled END_OF_TRACE = new Scheduled(null, 0);
+
+    private final CustomerService _target;
+    private final int _threads;
+
+    private record Scheduled(TraceEvent event, long dueNanos) {
+    }
+    //endregion
+
+    //region constructors
+    public WorkloadReplayer(CustomerService target, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1");
+        }
+        _target = target;
+        _threads = threads;
+    }
+    //endregion
+
+    //region methods
+
+    public ReplayReport replay(WorkloadTraceReader trace, double speed) throws IOException, InterruptedException {
+        if (!(speed > 0)) {
+            throw new IllegalArgumentException("speed must be positive");
+        }
+        boolean timed = speed != MAX_SPEED;
+
+        BlockingQueue<Scheduled> queue = new ArrayBlockingQueue<>(_threads * QUEUE_SLOTS_PER_THREAD);
+        LatencyHistogram[] histograms = new LatencyHistogram[_threads];
+        long[] errors = new long[_threads];
+        List<Thread> workers = new ArrayList<>(_threads);
+        for (int i = 0; i < _threads; i++) {
+            int worker = i;
+            histograms[worker] = new LatencyHistogram();
+            Thread thread = new Thread(() -> runWorker(queue, timed, histograms[worker], errors, worker), "workload-replayer-" + worker);
+            thread.setDaemon(true);
+            workers.add(thread);
+            thread.start();
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            for (TraceEvent event = trace.next(); event != null; event = trace.next()) {
+                long dueNanos = timed ? startNanos + (long) (event.getOffsetNanos() / speed) : 0;
+                if (timed) {
+                    for (long wait = dueNanos - System.nanoTime(); wait > 0; wait = dueNanos - System.nanoTime()) {
+                        LockSupport.parkNanos(wait);
+                    }
+                }
+                queue.put(new Scheduled(event, dueNanos));
+            }
+        } finally {
+            for (int i = 0; i < _threads; i++) {
+                queue.put(END_OF_TRACE);
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        LatencyHistogram latencies = new LatencyHistogram();
+        long totalErrors = 0;
+        for (int i = 0; i < _threads; i++) {
+            latencies.add(histograms[i]);
+            totalErrors += errors[i];
+        }
+        return new ReplayReport(latencies.getTotalCount(), totalErrors, elapsedNanos, latencies);
+    }
+
+    private void runWorker(BlockingQueue<Scheduled> queue, boolean timed, LatencyHistogram histogram, long[] errors, int worker) {
+        try {
+            for (Scheduled scheduled = queue.take(); scheduled != END_OF_TRACE; scheduled = queue.take()) {
+                long startNanos = timed ? scheduled.dueNanos() : System.nanoTime();
+                try {
+                    scheduled.event().applyTo(_target);
+                } catch (Throwable e) {
+                    // Errors too: a dead worker stops draining the queue and replay() never returns.
+                    errors[worker]++;
+                }
+                histogram.record(System.nanoTime() - startNanos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    //endregion
+}
@@ -0,0 +1,84 @@
+package Workload;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Streams the events of a trace written by WorkloadRecorder, one at a time.
+public class WorkloadTraceReader implements Closeable {
+    //region fields
+    private static final int[] NO_IDS = new int[0];
+
+    private final DataInputStream _trace;
+    private long _offsetNanos;
+    //endregion
+
+    //region constructors
+    public WorkloadTraceReader(InputStream trace) throws IOException {
+        _trace = new DataInputStream(new BufferedInputStream(trace, 64 * 1024));
+        if (_trace.readInt() != TraceFormat.MAGIC) {
+            throw new IOException("Not a customer workload trace");
+        }
+    }
+
+    public WorkloadTraceReader(Path trace) throws IOException {
+        this(Files.newInputStream(trace));
+    }
+    //endregion
+
+    //region methods
+
+    // Returns null once every event has been read.
+    public TraceEvent next() throws IOException {
+        int code = TraceFormat.readOperationCode(_trace);
+        if (code < 0) {
+            return null;
+        }
+        WorkloadOperation operation = WorkloadOperation.fromCode(code);
+        _offsetNanos += TraceFormat.readVarLong(_trace);
+
+        int custId = 0;
+        int[] custIds = NO_IDS;
+        int fieldsMask = 0;
+        int nameLength = -1;
+        int contactNumberLength = -1;
+        int addressLength = -1;
+        switch (operation) {
+            case ADD -> {
+                custId = TraceFormat.readId(_trace);
+                nameLength = TraceFormat.readLength(_trace);
+                contactNumberLength = TraceFormat.readLength(_trace);
+                addressLength = TraceFormat.readLength(_trace);
+            }
+            case GET_BY_ID, REMOVE -> custId = TraceFormat.readId(_trace);
+            case GET_BY_ID_PROJECTED -> {
+                custId = TraceFormat.readId(_trace);
+                fieldsMask = _trace.readUnsignedByte();
+            }
+            case GET_BY_IDS -> {
+                custIds = new int[(int) TraceFormat.readVarLong(_trace)];
+                for (int i = 0; i < custIds.length; i++) {
+                    custIds[i] = TraceFormat.readId(_trace);
+                }
+            }
+            case GET_ALL -> { }
+            case GET_ALL_PROJECTED -> fieldsMask = _trace.readUnsignedByte();
+            case UPDATE_NAME -> {
+                custId = TraceFormat.readId(_trace);
+                nameLength = TraceFormat.readLength(_trace);
+            }
+        }
+        return new TraceEvent(operation, _offsetNanos, custId, custIds, fieldsMask, nameLength, contactNumberLength, addressLength);
+    }
+
+    @Override
+    public void close() throws IOException {
+        _trace.close();
+    }
+
+    //endregion
+}
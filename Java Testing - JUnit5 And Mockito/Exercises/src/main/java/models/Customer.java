@@ -1,7 +1,13 @@
 package models;
 
-public class Customer {
+import java.io.Serial;
+import java.io.Serializable;
+
+public class Customer implements Serializable {
     //region fields
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private int _custId;
     private String _customerName;
     private String _contactNumber;
@@ -24,10 +30,10 @@ public class Customer {
     }
 
     public Customer(Customer customer) {
-        this._custId = customer._custId;
-        this._customerName = customer._customerName;
-        this._contactNumber = customer._contactNumber;
-        this._address = customer._address;
+        this._custId = customer.getCustId();
+        this._customerName = customer.getCustomerName();
+        this._contactNumber = customer.getContactNumber();
+        this._address = customer.getAddress();
     }
     //endregion
 
@@ -74,10 +80,10 @@ public class Customer {
     @Override
     public String toString() {
         return "Customer {" +
-                "custId = " + _custId +
-                ", customerName = '" + _customerName + '\'' +
-                ", contactNumber = '" + _contactNumber + '\'' +
-                ", address = '" + _address + '\'' +
+                "custId = " + getCustId() +
+                ", customerName = '" + getCustomerName() + '\'' +
+                ", contactNumber = '" + getContactNumber() + '\'' +
+                ", address = '" + getAddress() + '\'' +
                 '}';
     }
 
@@ -0,0 +1,37 @@
+package models;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+public enum CustomerField {
+    CUST_ID("cust_id"),
+    CUSTOMER_NAME("customer_name"),
+    CONTACT_NUMBER("contact_number"),
+    ADDRESS("address");
+
+    //region fields
+    private final String _columnName;
+    //endregion
+
+    //region constructors
+    CustomerField(String columnName) {
+        _columnName = columnName;
+    }
+    //endregion
+
+    //region methods
+
+    public String getColumnName() {
+        return _columnName;
+    }
+
+    public static Set<CustomerField> all() {
+        return EnumSet.allOf(CustomerField.class);
+    }
+
+    public static Set<CustomerField> listView() {
+        return EnumSet.of(CUST_ID, CUSTOMER_NAME);
+    }
+
+    //endregion
+}
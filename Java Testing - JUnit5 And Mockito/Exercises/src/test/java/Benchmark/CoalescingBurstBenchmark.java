@@ -0,0 +1,193 @@
+package Benchmark;
+
+import Interface.CustomerService;
+import Repository.JdbcCustomerRepository;
+import Service.CoalescingCustomerService;
+import Service.CustomerServiceImpl;
+import models.Customer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+// One invocation is a burst of BURST_SIZE concurrent getCustomerById calls, 90% of them for
+// the same hot customer. The backend behaves like a pool of POOL_SIZE connections with a
+// fixed round-trip latency. Backend query count and p99 call latency over the measurement
+// iterations (warmup excluded) are printed per trial.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoalescingBurstBenchmark {
+
+    private static final int BURST_SIZE = 256;
+    private static final int CUSTOMER_COUNT = 10_000;
+    private static final int POOL_SIZE = 8;
+
+    @Param({"direct", "coalesced"})
+    private String mode;
+
+    @Param({"500"})
+    private long backendLatencyMicros;
+
+    private Connection dbConnection;
+    private CustomerService service;
+    private CoalescingCustomerService coalescingService;
+    private ExecutorService callers;
+    private final AtomicLong backendQueries = new AtomicLong();
+    private final Semaphore connectionPool = new Semaphore(POOL_SIZE);
+    private long[] latencies = new long[1 << 20];
+    private int latencyCount;
+    private long bursts;
+    private long measuredQueries;
+    private long iterationStartQueries;
+    private boolean measuring;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        dbConnection = DriverManager.getConnection("jdbc:h2:mem:coalescingbench;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement stmt = dbConnection.createStatement()) {
+            stmt.executeUpdate("""
+                CREATE TABLE IF NOT EXISTS customers (
+                    cust_id INT PRIMARY KEY,
+                    customer_name VARCHAR(255) NOT NULL,
+                    contact_number VARCHAR(20),
+                    address VARCHAR(500)
+                )
+                """);
+        }
+
+        JdbcCustomerRepository repository = new JdbcCustomerRepository(dbConnection) {
+            @Override
+            public Customer getCustomerById(int custId) {
+                return query(() -> super.getCustomerById(custId));
+            }
+
+            @Override
+            public List<Customer> getCustomersByIds(Collection<Integer> custIds) {
+                return query(() -> super.getCustomersByIds(custIds));
+            }
+        };
+        for (int i = 1; i <= CUSTOMER_COUNT; i++) {
+            repository.addCustomer(new Customer(i, "Customer " + i, "1234567890", "Street " + i));
+        }
+
+        service = new CustomerServiceImpl(repository);
+        if (mode.equals("coalesced")) {
+            coalescingService = new CoalescingCustomerService(service, Duration.of(200, ChronoUnit.MICROS), 128);
+            service = coalescingService;
+        }
+        callers = Executors.newFixedThreadPool(BURST_SIZE);
+        backendQueries.set(0);
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration(IterationParams iteration) {
+        measuring = iteration.getType() == IterationType.MEASUREMENT;
+        iterationStartQueries = backendQueries.get();
+    }
+
+    @TearDown(Level.Iteration)
+    public void endIteration() {
+        if (measuring) {
+            measuredQueries += backendQueries.get() - iterationStartQueries;
+        }
+    }
+
+    private <T> T query(Supplier<T> statement) {
+        connectionPool.acquireUninterruptibly();
+        try {
+            backendQueries.incrementAndGet();
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(backendLatencyMicros));
+            return statement.get();
+        } finally {
+            connectionPool.release();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        long[] sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+        System.out.printf("%n%s: %.1f backend queries per burst, p50 = %d us, p99 = %d us%n",
+                mode,
+                (double) measuredQueries / bursts,
+                sorted[sorted.length / 2] / 1000,
+                sorted[(int) (sorted.length * 0.99)] / 1000);
+
+        callers.shutdownNow();
+        if (coalescingService != null) {
+            coalescingService.close();
+        }
+        try (Statement stmt = dbConnection.createStatement()) {
+            stmt.executeUpdate("DROP TABLE IF EXISTS customers");
+        }
+        dbConnection.close();
+    }
+
+    @Benchmark
+    public void burst() throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(BURST_SIZE);
+        long[] burstLatencies = new long[BURST_SIZE];
+
+        for (int i = 0; i < BURST_SIZE; i++) {
+            int caller = i;
+            int custId = caller % 10 == 0 ? 1 + caller : 1;
+            callers.execute(() -> {
+                try {
+                    start.await();
+                    long started = System.nanoTime();
+                    service.getCustomerById(custId);
+                    burstLatencies[caller] = System.nanoTime() - started;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await();
+
+        if (!measuring) {
+            return;
+        }
+        if (latencyCount + BURST_SIZE > latencies.length) {
+            latencies = Arrays.copyOf(latencies, latencies.length * 2);
+        }
+        System.arraycopy(burstLatencies, 0, latencies, latencyCount, BURST_SIZE);
+        latencyCount += BURST_SIZE;
+        bursts++;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(CoalescingBurstBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
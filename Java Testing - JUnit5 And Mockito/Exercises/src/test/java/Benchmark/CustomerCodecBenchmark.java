@@ -0,0 +1,110 @@
+package Benchmark;
+
+import Codec.CustomerCodec;
+import Codec.CustomerView;
+import models.Customer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+// Shipping one customer: copy constructor versus Java serialization versus the binary codec,
+// then reading name and address through the view as Strings versus in place.
+// Run with -prof gc to compare allocation per operation.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerCodecBenchmark {
+
+    private Customer customer;
+    private ByteBuffer buffer;
+    private CustomerView view;
+    private ByteBuffer encoded;
+    private StringBuilder text;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        customer = new Customer(123456, "John Doe", "1234567890", "123 Main St, Springfield, 62701");
+        buffer = ByteBuffer.allocateDirect(1024);
+        view = new CustomerView();
+        encoded = ByteBuffer.allocateDirect(1024);
+        CustomerCodec.encode(customer, encoded);
+        text = new StringBuilder(128);
+    }
+
+    @Benchmark
+    public Customer copyConstructor() {
+        return new Customer(customer);
+    }
+
+    @Benchmark
+    public Object javaSerializationRoundTrip() throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(customer);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return in.readObject();
+        }
+    }
+
+    @Benchmark
+    public Customer binaryRoundTrip() {
+        buffer.clear();
+        CustomerCodec.encode(customer, buffer);
+        buffer.flip();
+        return CustomerCodec.decode(buffer);
+    }
+
+    @Benchmark
+    public void binaryEncodeAndView(Blackhole blackhole) {
+        buffer.clear();
+        CustomerCodec.encode(customer, buffer);
+        view.wrap(buffer, 0);
+        blackhole.consume(view.getCustId());
+        blackhole.consume(view.getAddressByteLength());
+    }
+
+    @Benchmark
+    public void viewStringGetters(Blackhole blackhole) {
+        view.wrap(encoded, 0);
+        blackhole.consume(view.getCustomerName());
+        blackhole.consume(view.getAddress());
+    }
+
+    @Benchmark
+    public void viewAppendInPlace(Blackhole blackhole) {
+        view.wrap(encoded, 0);
+        text.setLength(0);
+        view.appendCustomerName(text);
+        view.appendAddress(text);
+        blackhole.consume(text.length());
+    }
+
+    @Benchmark
+    public void viewEqualsInPlace(Blackhole blackhole) {
+        view.wrap(encoded, 0);
+        blackhole.consume(view.customerNameEquals("John Doe"));
+        blackhole.consume(view.addressEquals("123 Main St, Springfield, 62701"));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(CustomerCodecBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
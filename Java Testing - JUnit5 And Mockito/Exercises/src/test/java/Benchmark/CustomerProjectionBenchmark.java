@@ -0,0 +1,100 @@
+package Benchmark;
+
+import Dataset.CustomerDatasetGenerator;
+import Dataset.CustomerDatasetSpec;
+import Repository.JdbcCustomerRepository;
+import models.Customer;
+import models.CustomerField;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// List workload: full rows versus the (custId, customerName) projection.
+// Run with the main method. The column bytes each read selects are printed once per trial;
+// they are summed on the server with OCTET_LENGTH, so they exclude protocol overhead.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerProjectionBenchmark {
+
+    @Param({"10000"})
+    private int customerCount;
+
+    private Connection dbConnection;
+    private JdbcCustomerRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        dbConnection = DriverManager.getConnection("jdbc:h2:mem:projectionbench;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement stmt = dbConnection.createStatement()) {
+            stmt.executeUpdate("""
+                CREATE TABLE IF NOT EXISTS customers (
+                    cust_id INT PRIMARY KEY,
+                    customer_name VARCHAR(255) NOT NULL,
+                    contact_number VARCHAR(20),
+                    address VARCHAR(500)
+                )
+                """);
+        }
+
+        repository = new JdbcCustomerRepository(dbConnection);
+        CustomerDatasetSpec dataset = new CustomerDatasetSpec(26, customerCount);
+        dataset.setAddressLength(400, 500);
+        new CustomerDatasetGenerator(dataset).writeTo(dbConnection);
+
+        System.out.printf("%ncolumn bytes selected per list read: full = %d, listView = %d%n",
+                bytesSelected(CustomerField.all()), bytesSelected(CustomerField.listView()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement stmt = dbConnection.createStatement()) {
+            stmt.executeUpdate("DROP TABLE IF EXISTS customers");
+        }
+        dbConnection.close();
+    }
+
+    @Benchmark
+    public List<Customer> getAllCustomersFullRow() {
+        return repository.getAllCustomers();
+    }
+
+    @Benchmark
+    public List<Customer> getAllCustomersListView() {
+        return repository.getAllCustomers(CustomerField.listView());
+    }
+
+    private long bytesSelected(Set<CustomerField> fields) throws SQLException {
+        String sum = fields.stream()
+                .map(field -> "COALESCE(SUM(OCTET_LENGTH(" + field.getColumnName() + ")), 0)")
+                .collect(Collectors.joining(" + "));
+        try (PreparedStatement stmt = dbConnection.prepareStatement("SELECT " + sum + " FROM customers");
+             ResultSet rs = stmt.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(CustomerProjectionBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
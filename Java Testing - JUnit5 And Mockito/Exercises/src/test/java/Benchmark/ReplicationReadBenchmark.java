@@ -0,0 +1,104 @@
+package Benchmark;
+
+import Replication.FollowerCustomerRepository;
+import Replication.PrimaryCustomerRepository;
+import models.Customer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// Read throughput across followers while the primary keeps renaming customers.
+// Reader threads are spread round-robin over the followers; lag is printed per trial.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class ReplicationReadBenchmark {
+
+    private static final int CUSTOMER_COUNT = 1000;
+
+    @Param({"1", "2", "4"})
+    private int followerCount;
+
+    private PrimaryCustomerRepository primary;
+    private final List<FollowerCustomerRepository> followers = new ArrayList<>();
+    private final AtomicInteger nextFollower = new AtomicInteger();
+    private Thread writer;
+    private volatile boolean writing;
+
+    @State(Scope.Thread)
+    public static class Reader {
+        private FollowerCustomerRepository follower;
+
+        @Setup(Level.Trial)
+        public void setUp(ReplicationReadBenchmark benchmark) {
+            follower = benchmark.followers.get(benchmark.nextFollower.getAndIncrement() % benchmark.followers.size());
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        primary = new PrimaryCustomerRepository();
+        primary.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        for (int i = 1; i <= CUSTOMER_COUNT; i++) {
+            primary.addCustomer(new Customer(i, "Customer " + i, "1234567890", "Street " + i));
+        }
+        for (int i = 0; i < followerCount; i++) {
+            FollowerCustomerRepository follower = new FollowerCustomerRepository(
+                    new InetSocketAddress(InetAddress.getLoopbackAddress(), primary.getPort()));
+            follower.awaitSequence(primary.getSequence(), 10, TimeUnit.SECONDS);
+            followers.add(follower);
+        }
+
+        writing = true;
+        writer = new Thread(() -> {
+            long version = 0;
+            while (writing) {
+                int custId = 1 + (int) (version % CUSTOMER_COUNT);
+                primary.updateCustomerName(custId, "Customer " + custId + " v" + version++);
+                LockSupport.parkNanos(20_000);
+            }
+        }, "replication-benchmark-writer");
+        writer.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, InterruptedException {
+        writing = false;
+        writer.join();
+        for (FollowerCustomerRepository follower : followers) {
+            System.out.printf("%nfollower lag: %d sequences, %d ms",
+                    primary.getSequence() - follower.getAppliedSequence(), follower.getReplicationLagMillis());
+            follower.close();
+        }
+        followers.clear();
+        primary.close();
+    }
+
+    @Benchmark
+    public Customer getCustomerById(Reader reader) {
+        return reader.follower.getCustomerById(1 + ThreadLocalRandom.current().nextInt(CUSTOMER_COUNT));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ReplicationReadBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,121 @@
+package Codec;
+
+import models.Customer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerCodecTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "1, John Doe, 1234567890, 123 Main St",
+        "-1, '', 123, ''",
+        "2147483647, Zoë Łukasiewicz, +40 700 000 000, Strada Mărului 7",
+        "300, 山田 太郎, 0987654321, 東京都 🏠"
+    })
+    void testRoundTripThroughHeapAndDirectBuffers(int custId, String customerName, String contactNumber, String address) {
+        Customer customer = new Customer(custId, customerName, contactNumber, address);
+
+        for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(256), ByteBuffer.allocateDirect(256)}) {
+            int written = CustomerCodec.encode(customer, buffer);
+            assertEquals(CustomerCodec.encodedSize(customer), written);
+            assertEquals(written, buffer.position());
+
+            buffer.flip();
+            Customer decoded = CustomerCodec.decode(buffer);
+
+            assertAll("Decoded customer should match the original",
+                    () -> assertEquals(custId, decoded.getCustId()),
+                    () -> assertEquals(customerName, decoded.getCustomerName()),
+                    () -> assertEquals(contactNumber, decoded.getContactNumber()),
+                    () -> assertEquals(address, decoded.getAddress())
+            );
+            assertFalse(buffer.hasRemaining());
+        }
+    }
+
+    @Test
+    void testEncodedStringsMatchJdkUtf8() {
+        String name = "Ana 😀 Broken\uD800Surrogate";
+        Customer customer = new Customer(7, name, null, "");
+        ByteBuffer buffer = ByteBuffer.allocate(128);
+
+        CustomerCodec.encode(customer, buffer);
+        CustomerView view = new CustomerView().wrap(buffer, 0);
+
+        assertEquals(name.getBytes(StandardCharsets.UTF_8).length, view.getCustomerNameByteLength());
+        assertEquals(new String(name.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8), view.getCustomerName());
+        assertNull(view.getContactNumber());
+        assertEquals("", view.getAddress());
+    }
+
+    @Test
+    void testViewWalksConsecutiveRecords() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+        for (int i = 1; i <= 10; i++) {
+            CustomerCodec.encode(new Customer(i, "Customer " + i, "07000000" + i, "Street " + i), buffer);
+        }
+        buffer.flip();
+
+        CustomerView view = new CustomerView();
+        int offset = 0;
+        for (int i = 1; i <= 10; i++) {
+            view.wrap(buffer, offset);
+            assertEquals(i, view.getCustId());
+            assertEquals("Customer " + i, view.getCustomerName());
+            offset += view.getEncodedLength();
+        }
+        assertEquals(buffer.limit(), offset);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1, John Doe, 1234567890, 123 Main St",
+        "2147483647, Zoë Łukasiewicz, +40 700 000 000, Strada Mărului 7",
+        "300, 山田 太郎, 0987654321, 東京都 🏠"
+    })
+    void testAppendAndEqualsReadFieldsInPlace(int custId, String customerName, String contactNumber, String address) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(256);
+        CustomerCodec.encode(new Customer(custId, customerName, null, address), buffer);
+        CustomerView view = new CustomerView().wrap(buffer, 0);
+
+        StringBuilder target = new StringBuilder("> ");
+        assertEquals("> " + customerName, view.appendCustomerName(target).toString());
+        assertEquals("", view.appendContactNumber(new StringBuilder()).toString());
+        assertEquals(address, view.appendAddress(new StringBuilder()).toString());
+        assertTrue(view.customerNameEquals(customerName));
+        assertTrue(view.addressEquals(address));
+        assertTrue(view.contactNumberEquals(null));
+        assertFalse(view.contactNumberEquals(contactNumber));
+        assertFalse(view.customerNameEquals(customerName + "x"));
+        assertFalse(view.addressEquals(address.substring(1)));
+        assertFalse(view.addressEquals(null));
+    }
+
+    @Test
+    void testWrapRejectsCorruptLengths() {
+        // custId 1, then a name length varint of 0xFFFFFFFF, i.e. a length far below -1.
+        ByteBuffer negativeLength = ByteBuffer.wrap(new byte[]{2, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F, 1, 1});
+        // custId 1, then a name length of Integer.MAX_VALUE - 1 bytes.
+        ByteBuffer overflowingLength = ByteBuffer.wrap(new byte[]{2, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 1, 1});
+
+        assertThrows(IllegalArgumentException.class, () -> new CustomerView().wrap(negativeLength, 0));
+        assertThrows(IllegalArgumentException.class, () -> new CustomerView().wrap(overflowingLength, 0));
+    }
+
+    @Test
+    void testEncodeLeavesBufferUntouchedWhenTooSmall() {
+        Customer customer = new Customer(1, "John Doe", "1234567890", "123 Main St");
+        ByteBuffer buffer = ByteBuffer.allocate(CustomerCodec.encodedSize(customer) - 1);
+
+        assertThrows(BufferOverflowException.class, () -> CustomerCodec.encode(customer, buffer));
+        assertEquals(0, buffer.position());
+    }
+}
@@ -0,0 +1,169 @@
+package Dataset;
+
+import Repository.CustomerRepository;
+import models.Customer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerDatasetGeneratorTest {
+
+    @TempDir
+    Path dataDirectory;
+
+    private static CustomerDatasetSpec spec(long seed, long count) {
+        return new CustomerDatasetSpec(seed, count);
+    }
+
+    @ParameterizedTest
+    @EnumSource(CustomerDatasetSpec.IdDistribution.class)
+    void testSameSeedProducesSameDataset(CustomerDatasetSpec.IdDistribution idDistribution) {
+        CustomerDatasetSpec first = spec(42, 1000);
+        first.setIdDistribution(idDistribution);
+        CustomerDatasetSpec second = spec(42, 1000);
+        second.setIdDistribution(idDistribution);
+
+        List<String> firstRun = new CustomerDatasetGenerator(first).stream().map(Customer::toString).toList();
+        List<String> secondRun = new CustomerDatasetGenerator(second).stream().parallel().map(Customer::toString).toList();
+
+        assertEquals(firstRun, secondRun);
+        assertNotEquals(firstRun, new CustomerDatasetGenerator(spec(43, 1000)).stream().map(Customer::toString).toList());
+    }
+
+    @Test
+    void testChangingTheSpecLaterDoesNotAffectTheGenerator() {
+        CustomerDatasetSpec uniform = spec(42, 1000);
+        uniform.setIdDistribution(CustomerDatasetSpec.IdDistribution.UNIFORM);
+        uniform.setIdRange(1000);
+        CustomerDatasetGenerator generator = new CustomerDatasetGenerator(uniform);
+        List<String> before = generator.stream().map(Customer::toString).toList();
+
+        uniform.setFirstId(Integer.MAX_VALUE - 5);
+        uniform.setIdDistribution(CustomerDatasetSpec.IdDistribution.PERMUTED);
+
+        assertEquals(before, generator.stream().map(Customer::toString).toList());
+    }
+
+    @Test
+    void testPermutedIdsAreUniqueAndCoverTheRange() {
+        CustomerDatasetSpec permuted = spec(7, 10_000);
+        permuted.setIdDistribution(CustomerDatasetSpec.IdDistribution.PERMUTED);
+        permuted.setFirstId(100);
+
+        BitSet seen = new BitSet();
+        new CustomerDatasetGenerator(permuted).stream().forEach(customer -> {
+            int offset = customer.getCustId() - 100;
+            assertTrue(offset >= 0 && offset < 10_000, "Id outside range: " + customer.getCustId());
+            assertFalse(seen.get(offset), "Duplicate id: " + customer.getCustId());
+            seen.set(offset);
+        });
+
+        assertEquals(10_000, seen.cardinality());
+        assertNotEquals(100, new CustomerDatasetGenerator(permuted).customerAt(0).getCustId());
+    }
+
+    @Test
+    void testCardinalityAndLengthsAreRespected() {
+        CustomerDatasetSpec bounded = spec(1, 20_000);
+        bounded.setNameCardinality(50);
+        bounded.setAddressCardinality(200);
+        bounded.setNameLength(12, 20);
+        bounded.setAddressLength(300, 500);
+
+        List<Customer> customers = new CustomerDatasetGenerator(bounded).stream().toList();
+        Set<String> names = customers.stream().map(Customer::getCustomerName).collect(Collectors.toSet());
+        Set<String> addresses = customers.stream().map(Customer::getAddress).collect(Collectors.toSet());
+
+        assertEquals(50, names.size());
+        assertEquals(200, addresses.size());
+        assertAll("Generated strings should fit the configured lengths",
+                () -> assertTrue(names.stream().allMatch(name -> name.length() >= 12 && name.length() <= 20)),
+                () -> assertTrue(addresses.stream().allMatch(address -> address.length() >= 300 && address.length() <= 500)),
+                () -> assertTrue(customers.stream().allMatch(customer -> customer.getContactNumber().matches("07\\d{8}")))
+        );
+    }
+
+    @Test
+    void testParallelSinksKeepGenerationOrder() {
+        CustomerDatasetSpec dataset = spec(5, 10_000);
+        dataset.setIdDistribution(CustomerDatasetSpec.IdDistribution.PERMUTED);
+        CustomerRepository repository = new CustomerRepository();
+
+        long written = new CustomerDatasetGenerator(dataset, 8, 100).writeTo(repository);
+
+        assertEquals(10_000, written);
+        List<String> expected = new CustomerDatasetGenerator(dataset).stream().map(Customer::toString).toList();
+        assertEquals(expected, repository.getAllCustomers().stream().map(Customer::toString).toList());
+    }
+
+    @Test
+    void testFileRoundTrip() throws IOException {
+        CustomerDatasetSpec dataset = spec(9, 5_000);
+        Path file = dataDirectory.resolve("customers.bin");
+
+        new CustomerDatasetGenerator(dataset, 4, 256).writeTo(file);
+        List<Customer> read = new ArrayList<>();
+        long records = CustomerDatasetGenerator.readFile(file, read::add);
+
+        assertEquals(5_000, records);
+        assertTrue(Files.size(file) > 0);
+        CustomerDatasetGenerator generator = new CustomerDatasetGenerator(dataset);
+        for (int i = 0; i < read.size(); i += 499) {
+            assertEquals(generator.customerAt(i).toString(), read.get(i).toString());
+        }
+    }
+
+    @Test
+    void testWritesIntoCustomersTable() throws SQLException {
+        String jdbcUrl = "jdbc:h2:mem:datasetdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+        try (Connection dbConnection = DriverManager.getConnection(jdbcUrl, "sa", "");
+             Statement stmt = dbConnection.createStatement()) {
+            stmt.executeUpdate("""
+                CREATE TABLE IF NOT EXISTS customers (
+                    cust_id INT PRIMARY KEY,
+                    customer_name VARCHAR(255) NOT NULL,
+                    contact_number VARCHAR(20),
+                    address VARCHAR(500)
+                )
+                """);
+
+            new CustomerDatasetGenerator(spec(3, 2_500), 4, 500).writeTo(dbConnection);
+
+            try (ResultSet rs = stmt.executeQuery("SELECT COUNT(*), MIN(cust_id), MAX(cust_id) FROM customers")) {
+                assertTrue(rs.next());
+                assertEquals(2_500, rs.getInt(1));
+                assertEquals(1, rs.getInt(2));
+                assertEquals(2_500, rs.getInt(3));
+            } finally {
+                stmt.executeUpdate("DROP TABLE IF EXISTS customers");
+            }
+        }
+    }
+
+    @Test
+    void testUniqueIdsMustFitAnInt() {
+        CustomerDatasetSpec tooLarge = spec(1, 3_000_000_000L);
+
+        assertThrows(IllegalArgumentException.class, () -> new CustomerDatasetGenerator(tooLarge));
+
+        tooLarge.setIdDistribution(CustomerDatasetSpec.IdDistribution.UNIFORM);
+        assertDoesNotThrow(() -> new CustomerDatasetGenerator(tooLarge).customerAt(2_999_999_999L));
+    }
+}
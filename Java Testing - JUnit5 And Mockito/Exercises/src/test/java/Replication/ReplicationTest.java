@@ -0,0 +1,157 @@
+package Replication;
+
+import Interface.CustomerService;
+import Service.CustomerServiceImpl;
+import models.Customer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicationTest {
+
+    private PrimaryCustomerRepository primary;
+    private final List<FollowerCustomerRepository> followers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        primary = new PrimaryCustomerRepository();
+        primary.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (FollowerCustomerRepository follower : followers) {
+            follower.close();
+        }
+        primary.close();
+    }
+
+    private FollowerCustomerRepository connectFollower() throws IOException {
+        FollowerCustomerRepository follower = new FollowerCustomerRepository(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), primary.getPort()));
+        followers.add(follower);
+        return follower;
+    }
+
+    @Test
+    void testFollowerReceivesSnapshotAndCatchUp() throws Exception {
+        for (int i = 1; i <= 100; i++) {
+            primary.addCustomer(new Customer(i, "Customer " + i, "1234567890", "Street " + i));
+        }
+
+        FollowerCustomerRepository follower = connectFollower();
+        primary.updateCustomerName(1, "Renamed");
+        primary.removeCustomer(2);
+
+        assertTrue(follower.awaitSequence(primary.getSequence(), 5, TimeUnit.SECONDS), "Follower should catch up");
+        assertEquals(99, follower.getAllCustomers().size());
+        assertEquals("Renamed", follower.getCustomerById(1).getCustomerName());
+        assertNull(follower.getCustomerById(2));
+        assertEquals("Street 100", follower.getCustomerById(100).getAddress());
+    }
+
+    @Test
+    void testMutationsStreamToEveryFollower() throws Exception {
+        FollowerCustomerRepository first = connectFollower();
+        FollowerCustomerRepository second = connectFollower();
+        CustomerService primaryService = new CustomerServiceImpl(primary);
+
+        for (int i = 1; i <= 1000; i++) {
+            primaryService.addCustomer(new Customer(i, "Customer " + i, null, "Street " + i));
+        }
+
+        for (FollowerCustomerRepository follower : List.of(first, second)) {
+            assertTrue(follower.awaitSequence(1000, 5, TimeUnit.SECONDS), "Follower should apply every mutation");
+            CustomerService followerService = new CustomerServiceImpl(follower);
+            assertEquals(1000, followerService.getAllCustomers().size());
+            assertNull(followerService.getCustomerById(500).getContactNumber());
+            assertTrue(follower.getReplicationLagMillis() >= 0);
+        }
+    }
+
+    @Test
+    void testFollowerIsReadOnly() throws IOException {
+        CustomerService followerService = new CustomerServiceImpl(connectFollower());
+
+        assertThrows(UnsupportedOperationException.class,
+                () -> followerService.addCustomer(new Customer(1, "John Doe", "1234567890", "123 Main St")));
+        assertThrows(UnsupportedOperationException.class, () -> followerService.removeCustomer(1));
+        assertThrows(UnsupportedOperationException.class, () -> followerService.updateCustomerName(1, "Jane Doe"));
+    }
+
+    @Test
+    void testFollowerDisconnectsWhenPrimaryCloses() throws Exception {
+        FollowerCustomerRepository follower = connectFollower();
+        assertTrue(follower.awaitSequence(0, 5, TimeUnit.SECONDS));
+
+        primary.close();
+
+        assertFalse(follower.awaitSequence(1, 5, TimeUnit.SECONDS));
+        assertFalse(follower.isConnected());
+    }
+
+    @Test
+    void testCustomersHandedOutAreCopies() throws Exception {
+        primary.addCustomer(new Customer(1, "John Doe", "1234567890", "123 Main St"));
+        FollowerCustomerRepository follower = connectFollower();
+        assertTrue(follower.awaitSequence(1, 5, TimeUnit.SECONDS));
+
+        Customer held = follower.getCustomerById(1);
+        primary.getCustomerById(1).setAddress("changed");
+        primary.updateCustomerName(1, "Jane Doe");
+
+        assertTrue(follower.awaitSequence(2, 5, TimeUnit.SECONDS));
+        assertEquals("John Doe", held.getCustomerName(), "A held customer must not change under the reader");
+        assertEquals("Jane Doe", follower.getCustomerById(1).getCustomerName());
+        assertEquals("123 Main St", primary.getCustomerById(1).getAddress());
+        assertEquals("123 Main St", follower.getCustomerById(1).getAddress());
+    }
+
+    @Test
+    void testLongNamesReplicate() throws Exception {
+        FollowerCustomerRepository follower = connectFollower();
+        primary.addCustomer(new Customer(1, "John Doe", "1234567890", "123 Main St"));
+        String longName = "\u00e9".repeat(70_000);
+        primary.updateCustomerName(1, longName);
+        primary.updateCustomerName(1, longName + "!");
+
+        assertTrue(follower.awaitSequence(3, 5, TimeUnit.SECONDS), "Follower should apply the long renames");
+        assertTrue(follower.isConnected());
+        assertEquals(longName + "!", follower.getCustomerById(1).getCustomerName());
+    }
+
+    @Test
+    void testStalledFollowerIsDisconnected() throws Exception {
+        try (PrimaryCustomerRepository boundedPrimary = new PrimaryCustomerRepository(100);
+             Socket stalled = new Socket()) {
+            boundedPrimary.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            stalled.setReceiveBufferSize(4096);
+            stalled.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), boundedPrimary.getPort()));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (boundedPrimary.getFollowerCount() == 0 && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+            assertEquals(1, boundedPrimary.getFollowerCount());
+
+            // The stalled follower never reads, so socket buffers fill and then the queue overflows.
+            String name = "x".repeat(1024);
+            for (int i = 1; i <= 20_000 && boundedPrimary.getFollowerCount() > 0; i++) {
+                boundedPrimary.addCustomer(new Customer(i, name, null, null));
+            }
+            while (boundedPrimary.getFollowerCount() > 0 && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+            assertEquals(0, boundedPrimary.getFollowerCount(), "The stalled follower should be dropped");
+        }
+    }
+}
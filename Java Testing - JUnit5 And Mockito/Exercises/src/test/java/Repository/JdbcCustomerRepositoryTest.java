@@ -0,0 +1,123 @@
+package Repository;
+
+import Interface.CustomerService;
+import Service.CustomerServiceImpl;
+import models.Customer;
+import models.CustomerField;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JdbcCustomerRepositoryTest {
+
+    private Connection dbConnection;
+    private JdbcCustomerRepository repository;
+    private CustomerService customerService;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        String jdbcUrl = "jdbc:h2:mem:projectiondb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+        dbConnection = DriverManager.getConnection(jdbcUrl, "sa", "");
+
+        try (Statement stmt = dbConnection.createStatement()) {
+            stmt.executeUpdate("""
+                CREATE TABLE IF NOT EXISTS customers (
+                    cust_id INT PRIMARY KEY,
+                    customer_name VARCHAR(255) NOT NULL,
+                    contact_number VARCHAR(20),
+                    address VARCHAR(500)
+                )
+                """);
+        }
+
+        repository = new JdbcCustomerRepository(dbConnection);
+        customerService = new CustomerServiceImpl(repository);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement stmt = dbConnection.createStatement()) {
+            stmt.executeUpdate("DROP TABLE IF EXISTS customers");
+        }
+        dbConnection.close();
+    }
+
+    @Test
+    void testCRUDAgainstDatabase() {
+        customerService.addCustomer(new Customer(1, "John Doe", "1234567890", "123 Main St"));
+
+        Customer retrievedCustomer = customerService.getCustomerById(1);
+        assertNotNull(retrievedCustomer);
+        assertEquals("John Doe", retrievedCustomer.getCustomerName());
+        assertEquals("123 Main St", retrievedCustomer.getAddress());
+
+        customerService.updateCustomerName(1, "Jane Doe");
+        assertEquals("Jane Doe", customerService.getCustomerById(1).getCustomerName());
+
+        customerService.removeCustomer(1);
+        assertNull(customerService.getCustomerById(1));
+    }
+
+    @Test
+    void testProjectionSelectsOnlyRequestedFields() {
+        customerService.addCustomer(new Customer(1, "John Doe", "1234567890", "123 Main St"));
+        customerService.addCustomer(new Customer(2, "Jane Smith", "0987654321", "456 Elm St"));
+
+        List<Customer> customers = customerService.getAllCustomers(CustomerField.listView());
+
+        assertEquals(2, customers.size());
+        LazyCustomer first = assertInstanceOf(LazyCustomer.class, customers.get(0));
+        assertEquals(1, first.getCustId());
+        assertEquals("John Doe", first.getCustomerName());
+        assertTrue(first.isLoaded(CustomerField.CUSTOMER_NAME));
+        assertFalse(first.isLoaded(CustomerField.CONTACT_NUMBER));
+        assertFalse(first.isLoaded(CustomerField.ADDRESS));
+    }
+
+    @Test
+    void testUnrequestedFieldsLoadLazilyOnFirstAccess() throws SQLException {
+        customerService.addCustomer(new Customer(1, "John Doe", "1234567890", "123 Main St"));
+
+        Customer customer = customerService.getCustomerById(1, CustomerField.listView());
+
+        try (Statement stmt = dbConnection.createStatement()) {
+            stmt.executeUpdate("UPDATE customers SET address = '789 Oak St' WHERE cust_id = 1");
+        }
+
+        assertEquals("789 Oak St", customer.getAddress(), "Address should be read on first access, not with the projection");
+        assertEquals("1234567890", customer.getContactNumber());
+    }
+
+    @Test
+    void testSetterOnLazyFieldSkipsLoading() {
+        customerService.addCustomer(new Customer(1, "John Doe", "1234567890", "123 Main St"));
+
+        Customer customer = customerService.getCustomerById(1, CustomerField.listView());
+        customer.setAddress("Local Address");
+
+        assertEquals("Local Address", customer.getAddress());
+        assertEquals("Local Address", new Customer(customer).getAddress());
+    }
+
+    @Test
+    void testLoadNeverOverwritesAValueSetMeanwhile() {
+        customerService.addCustomer(new Customer(1, "John Doe", "1234567890", "123 Main St"));
+        LazyCustomer customer = assertInstanceOf(LazyCustomer.class, customerService.getCustomerById(1, CustomerField.listView()));
+
+        // A load that was planned before the setter ran still includes the address column.
+        customer.setAddress("Local Address");
+        repository.loadFields(customer, EnumSet.of(CustomerField.CONTACT_NUMBER, CustomerField.ADDRESS));
+
+        assertEquals("Local Address", customer.getAddress());
+        assertEquals("1234567890", customer.getContactNumber());
+    }
+}
@@ -0,0 +1,153 @@
+package Repository;
+
+import Interface.CustomerService;
+import Service.CustomerServiceImpl;
+import models.Customer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TieredCustomerRepositoryTest {
+
+    @TempDir
+    Path segmentDirectory;
+
+    private TieredCustomerRepository repository;
+    private CustomerService customerService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        repository = new TieredCustomerRepository(segmentDirectory, 10, 4096, Duration.ofHours(1));
+        customerService = new CustomerServiceImpl(repository);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        repository.close();
+    }
+
+    private void addCustomers(int count) {
+        for (int i = 1; i <= count; i++) {
+            customerService.addCustomer(new Customer(i, "Customer " + i, "1234567890", "Street " + i));
+        }
+    }
+
+    @Test
+    void testCustomersBeyondHotCapacitySpillToSegments() throws IOException {
+        addCustomers(500);
+
+        assertEquals(10, repository.getHotCount());
+        assertEquals(490, repository.getColdCount());
+        assertTrue(repository.getSegmentCount() > 1, "Cold records should span several segments");
+        try (Stream<Path> files = Files.list(repository.getDirectory())) {
+            assertEquals(repository.getSegmentCount(), files.count());
+        }
+
+        Customer coldCustomer = customerService.getCustomerById(321);
+        assertEquals("Customer 321", coldCustomer.getCustomerName());
+        assertEquals("Street 321", coldCustomer.getAddress());
+        assertEquals(500, customerService.getAllCustomers().size());
+    }
+
+    @Test
+    void testFrequentlyReadCustomerIsPromoted() {
+        addCustomers(100);
+        for (int i = 1; i <= 10; i++) {
+            customerService.getCustomerById(i);
+        }
+
+        Customer first = customerService.getCustomerById(50);
+        Customer promoted = null;
+        for (int i = 0; i < 20; i++) {
+            promoted = customerService.getCustomerById(50);
+        }
+
+        assertNotSame(first, promoted, "Cold reads decode a fresh copy");
+        assertTrue(repository.isHot(50));
+        assertEquals(10, repository.getHotCount());
+    }
+
+    @Test
+    void testReturnedCustomersAreCopiesInEitherTier() {
+        addCustomers(100);
+        for (int i = 0; i < 20; i++) {
+            customerService.getCustomerById(50);
+        }
+        assertTrue(repository.isHot(50));
+
+        customerService.getCustomerById(5).setAddress("changed");
+        customerService.getCustomerById(50).setAddress("changed");
+        customerService.getAllCustomers().forEach(customer -> customer.setAddress("changed"));
+        for (int i = 1; i <= 10; i++) {
+            for (int j = 0; j < 60; j++) {
+                customerService.getCustomerById(60 + i);
+            }
+        }
+
+        assertFalse(repository.isHot(50), "Customer 50 should have been demoted");
+        assertEquals("Street 5", customerService.getCustomerById(5).getAddress());
+        assertEquals("Street 50", customerService.getCustomerById(50).getAddress());
+        assertEquals("Street 75", customerService.getCustomerById(75).getAddress());
+    }
+
+    @Test
+    void testInstancesSharingADirectoryDoNotCollide() throws IOException {
+        try (TieredCustomerRepository second = new TieredCustomerRepository(segmentDirectory, 10, 4096, Duration.ofHours(1))) {
+            addCustomers(100);
+            for (int i = 1; i <= 100; i++) {
+                second.addCustomer(new Customer(i, "Other " + i, "1234567890", "Road " + i));
+            }
+
+            assertEquals("Customer 75", customerService.getCustomerById(75).getCustomerName());
+            assertEquals("Other 75", second.getCustomerById(75).getCustomerName());
+            assertNotEquals(repository.getDirectory(), second.getDirectory());
+        }
+    }
+
+    @Test
+    void testUpdateAndRemoveAcrossTiers() {
+        addCustomers(100);
+
+        customerService.updateCustomerName(5, "Hot Renamed");
+        customerService.updateCustomerName(75, "Cold Renamed");
+        customerService.removeCustomer(6);
+        customerService.removeCustomer(76);
+
+        assertEquals("Hot Renamed", customerService.getCustomerById(5).getCustomerName());
+        assertEquals("Cold Renamed", customerService.getCustomerById(75).getCustomerName());
+        assertNull(customerService.getCustomerById(6));
+        assertNull(customerService.getCustomerById(76));
+        assertEquals(98, customerService.getAllCustomers().size());
+    }
+
+    @Test
+    void testCompactionReclaimsSegmentsAndKeepsLiveRecords() throws IOException {
+        addCustomers(500);
+        int segmentsBefore = repository.getSegmentCount();
+
+        for (int i = 11; i <= 500; i++) {
+            if (i % 10 != 0) {
+                customerService.removeCustomer(i);
+            }
+        }
+
+        assertTrue(repository.compact() > 0);
+        assertTrue(repository.getSegmentCount() < segmentsBefore);
+        try (Stream<Path> files = Files.list(repository.getDirectory())) {
+            assertEquals(repository.getSegmentCount(), files.count());
+        }
+        for (int i = 20; i <= 500; i += 10) {
+            assertEquals("Street " + i, customerService.getCustomerById(i).getAddress());
+        }
+        assertEquals(59, customerService.getAllCustomers().size());
+    }
+}
@@ -0,0 +1,172 @@
+package Service;
+
+import Interface.CustomerService;
+import models.Customer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingCustomerServiceTest {
+
+    @Mock
+    private CustomerService mockDelegate;
+
+    private CoalescingCustomerService coalescingService;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        coalescingService = new CoalescingCustomerService(mockDelegate, Duration.ofMillis(20), 64);
+        callers = Executors.newFixedThreadPool(32);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        coalescingService.close();
+    }
+
+    private List<Customer> customersFor(Collection<Integer> custIds) {
+        List<Customer> customers = new ArrayList<>();
+        for (int custId : custIds) {
+            customers.add(new Customer(custId, "Customer " + custId, "1234567890", "Street " + custId));
+        }
+        return customers;
+    }
+
+    @Test
+    void concurrentLookupsForSameIdShareOneLoad() throws Exception {
+        CountDownLatch backendEntered = new CountDownLatch(1);
+        CountDownLatch releaseBackend = new CountDownLatch(1);
+        when(mockDelegate.getCustomersByIds(anyCollection())).thenAnswer(invocation -> {
+            backendEntered.countDown();
+            releaseBackend.await();
+            return customersFor(invocation.getArgument(0));
+        });
+
+        List<Future<Customer>> results = new ArrayList<>();
+        results.add(callers.submit(() -> coalescingService.getCustomerById(1)));
+        assertTrue(backendEntered.await(5, TimeUnit.SECONDS));
+
+        CountDownLatch callersStarted = new CountDownLatch(31);
+        for (int i = 0; i < 31; i++) {
+            results.add(callers.submit(() -> {
+                callersStarted.countDown();
+                return coalescingService.getCustomerById(1);
+            }));
+        }
+        assertTrue(callersStarted.await(5, TimeUnit.SECONDS));
+        // Only answer once every caller is blocked on the in-flight load.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescingService.getWaiterCount(1) < 32 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+        assertEquals(32, coalescingService.getWaiterCount(1));
+        releaseBackend.countDown();
+
+        for (Future<Customer> result : results) {
+            assertEquals("Customer 1", result.get(5, TimeUnit.SECONDS).getCustomerName());
+        }
+        verify(mockDelegate, times(1)).getCustomersByIds(anyCollection());
+
+        // Waiters share the load but not the object.
+        Customer first = results.get(0).get();
+        first.setAddress("changed");
+        assertNotSame(first, results.get(1).get());
+        assertEquals("Street 1", results.get(1).get().getAddress());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void lookupsWithinWindowAreMergedIntoOneBatch() throws Exception {
+        when(mockDelegate.getCustomersByIds(anyCollection()))
+                .thenAnswer(invocation -> customersFor(invocation.getArgument(0)));
+
+        List<Future<Customer>> results = new ArrayList<>();
+        for (int custId = 1; custId <= 5; custId++) {
+            int id = custId;
+            results.add(callers.submit(() -> coalescingService.getCustomerById(id)));
+        }
+        for (int custId = 1; custId <= 5; custId++) {
+            assertEquals(custId, results.get(custId - 1).get(5, TimeUnit.SECONDS).getCustId());
+        }
+
+        ArgumentCaptor<Collection<Integer>> batch = ArgumentCaptor.forClass(Collection.class);
+        verify(mockDelegate, atLeastOnce()).getCustomersByIds(batch.capture());
+        assertTrue(batch.getAllValues().size() < 5, "Lookups inside one window should share a backend query");
+        assertEquals(5, batch.getAllValues().stream().mapToInt(Collection::size).sum());
+    }
+
+    @Test
+    void missingCustomerResolvesToNull() {
+        when(mockDelegate.getCustomersByIds(anyCollection())).thenReturn(List.of());
+
+        assertNull(coalescingService.getCustomerById(9999));
+    }
+
+    @Test
+    void backendFailureReachesEveryWaiter() {
+        when(mockDelegate.getCustomersByIds(anyCollection()))
+                .thenThrow(new IllegalStateException("Database connection failed"));
+
+        IllegalStateException thrownException = assertThrows(IllegalStateException.class,
+                () -> coalescingService.getCustomerById(1));
+        assertEquals("Database connection failed", thrownException.getMessage());
+    }
+
+    @Test
+    void backendErrorFailsTheLoadInsteadOfHanging() {
+        when(mockDelegate.getCustomersByIds(anyCollection()))
+                .thenThrow(new AssertionError("Backend invariant broken"))
+                .thenAnswer(invocation -> customersFor(invocation.getArgument(0)));
+
+        AssertionError thrownError = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> assertThrows(AssertionError.class, () -> coalescingService.getCustomerById(1)));
+        assertEquals("Backend invariant broken", thrownError.getMessage());
+        assertEquals("Customer 1", assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> coalescingService.getCustomerById(1)).getCustomerName());
+    }
+
+    @Test
+    void lookupsAfterCloseFailInsteadOfHanging() {
+        coalescingService.close();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            assertThrows(IllegalStateException.class, () -> coalescingService.getCustomerById(1));
+            assertThrows(IllegalStateException.class, () -> coalescingService.getCustomerById(1));
+        });
+        verifyNoInteractions(mockDelegate);
+    }
+
+    @Test
+    void writesAreForwardedAndLaterReadsReload() {
+        when(mockDelegate.getCustomersByIds(anyCollection()))
+                .thenAnswer(invocation -> customersFor(invocation.getArgument(0)));
+
+        coalescingService.getCustomerById(1);
+        coalescingService.updateCustomerName(1, "Jane Doe");
+        coalescingService.getCustomerById(1);
+
+        verify(mockDelegate).updateCustomerName(1, "Jane Doe");
+        verify(mockDelegate, times(2)).getCustomersByIds(anyCollection());
+    }
+}
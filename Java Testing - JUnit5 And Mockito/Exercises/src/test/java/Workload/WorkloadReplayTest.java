@@ -0,0 +1,181 @@
+package Workload;
+
+import Interface.CustomerService;
+import Service.CustomerServiceImpl;
+import models.Customer;
+import models.CustomerField;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkloadReplayTest {
+
+    @Mock
+    private CustomerService mockTarget;
+
+    private static byte[] record(RecordedCalls calls) throws Exception {
+        ByteArrayOutputStream trace = new ByteArrayOutputStream();
+        try (WorkloadRecorder recorder = new WorkloadRecorder(new CustomerServiceImpl(), trace)) {
+            calls.run(recorder);
+        }
+        return trace.toByteArray();
+    }
+
+    private interface RecordedCalls {
+        void run(CustomerService service) throws Exception;
+    }
+
+    private static List<TraceEvent> readAll(byte[] trace) throws IOException {
+        List<TraceEvent> events = new ArrayList<>();
+        try (WorkloadTraceReader reader = new WorkloadTraceReader(new ByteArrayInputStream(trace))) {
+            for (TraceEvent event = reader.next(); event != null; event = reader.next()) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    @Test
+    void testRecorderForwardsCallsAndTracesThem() throws Exception {
+        List<String> seen = new ArrayList<>();
+        byte[] trace = record(service -> {
+            service.addCustomer(new Customer(-7, "John Doe", null, "123 Main St"));
+            seen.add(service.getCustomerById(-7).getCustomerName());
+            service.getCustomerById(-7, CustomerField.listView());
+            service.getCustomersByIds(List.of(1, -7, 300));
+            service.getAllCustomers();
+            service.updateCustomerName(-7, "Jane");
+            service.removeCustomer(-7);
+        });
+
+        assertEquals("John Doe", seen.get(0), "Calls should reach the wrapped service");
+
+        List<TraceEvent> events = readAll(trace);
+        assertEquals(List.of(WorkloadOperation.ADD, WorkloadOperation.GET_BY_ID, WorkloadOperation.GET_BY_ID_PROJECTED,
+                        WorkloadOperation.GET_BY_IDS, WorkloadOperation.GET_ALL, WorkloadOperation.UPDATE_NAME, WorkloadOperation.REMOVE),
+                events.stream().map(TraceEvent::getOperation).toList());
+
+        TraceEvent add = events.get(0);
+        assertAll("Trace keeps ids and payload sizes",
+                () -> assertEquals(-7, add.getCustId()),
+                () -> assertEquals(8, add.getNameLength()),
+                () -> assertEquals(-1, add.getContactNumberLength()),
+                () -> assertEquals(11, add.getAddressLength()),
+                () -> assertEquals(CustomerField.listView(), events.get(2).getFields()),
+                () -> assertArrayEquals(new int[]{1, -7, 300}, events.get(3).getCustIds()),
+                () -> assertEquals(4, events.get(5).getNameLength())
+        );
+        for (int i = 1; i < events.size(); i++) {
+            assertTrue(events.get(i).getOffsetNanos() >= events.get(i - 1).getOffsetNanos());
+        }
+        assertTrue(trace.length < 64, "Trace should stay compact: " + trace.length + " bytes");
+    }
+
+    @Test
+    void testUnencodableCallsAreForwardedButLeaveTheTraceReadable() throws Exception {
+        ByteArrayOutputStream trace = new ByteArrayOutputStream();
+        try (WorkloadRecorder recorder = new WorkloadRecorder(mockTarget, trace)) {
+            recorder.getCustomerById(1);
+            recorder.addCustomer(null);
+            recorder.getCustomerById(2, null);
+            recorder.getCustomersByIds(Arrays.asList(3, null));
+            recorder.getCustomerById(4);
+            assertEquals(3, recorder.getDroppedCount());
+        }
+
+        verify(mockTarget).addCustomer(null);
+        verify(mockTarget).getCustomerById(2, null);
+        verify(mockTarget).getCustomersByIds(Arrays.asList(3, null));
+        List<TraceEvent> events = readAll(trace.toByteArray());
+        assertEquals(2, events.size());
+        assertEquals(4, events.get(1).getCustId());
+    }
+
+    @Test
+    void testReplayAtMaxSpeedIssuesEveryCall() throws Exception {
+        byte[] trace = record(service -> {
+            for (int i = 1; i <= 500; i++) {
+                service.addCustomer(new Customer(i, "Customer " + i, "1234567890", "Street " + i));
+                service.getCustomerById(i);
+            }
+        });
+        when(mockTarget.getCustomerById(anyInt())).thenThrow(new IllegalStateException("Database connection failed"));
+
+        ReplayReport report;
+        try (WorkloadTraceReader reader = new WorkloadTraceReader(new ByteArrayInputStream(trace))) {
+            report = new WorkloadReplayer(mockTarget, 8).replay(reader, WorkloadReplayer.MAX_SPEED);
+        }
+
+        assertEquals(1000, report.getOperations());
+        assertEquals(500, report.getErrors(), "Failed calls should be counted, not abort the replay");
+        assertTrue(report.getLatencyNanos(50) <= report.getLatencyNanos(99));
+        assertTrue(report.getLatencyNanos(99) <= report.getMaxLatencyNanos());
+        verify(mockTarget, times(500)).addCustomer(any(Customer.class));
+        verify(mockTarget).getCustomerById(250);
+    }
+
+    @Test
+    void testTargetErrorsAreCountedInsteadOfHangingTheReplay() throws Exception {
+        byte[] trace = record(service -> {
+            for (int i = 1; i <= 2000; i++) {
+                service.getCustomerById(i);
+            }
+        });
+        when(mockTarget.getCustomerById(anyInt())).thenThrow(new AssertionError("Target invariant broken"));
+
+        ReplayReport report = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            try (WorkloadTraceReader reader = new WorkloadTraceReader(new ByteArrayInputStream(trace))) {
+                return new WorkloadReplayer(mockTarget, 2).replay(reader, WorkloadReplayer.MAX_SPEED);
+            }
+        });
+
+        assertEquals(2000, report.getOperations());
+        assertEquals(2000, report.getErrors());
+    }
+
+    @Test
+    void testReplayFollowsRecordedTimingScaledBySpeed() throws Exception {
+        byte[] trace = record(service -> {
+            service.getCustomerById(1);
+            TimeUnit.MILLISECONDS.sleep(200);
+            service.getCustomerById(2);
+            TimeUnit.MILLISECONDS.sleep(200);
+            service.getCustomerById(3);
+        });
+
+        ReplayReport original;
+        try (WorkloadTraceReader reader = new WorkloadTraceReader(new ByteArrayInputStream(trace))) {
+            original = new WorkloadReplayer(mockTarget, 2).replay(reader, WorkloadReplayer.ORIGINAL_SPEED);
+        }
+        ReplayReport fourTimes;
+        try (WorkloadTraceReader reader = new WorkloadTraceReader(new ByteArrayInputStream(trace))) {
+            fourTimes = new WorkloadReplayer(mockTarget, 2).replay(reader, 4.0);
+        }
+
+        assertEquals(3, original.getOperations());
+        assertTrue(original.getElapsedNanos() >= TimeUnit.MILLISECONDS.toNanos(400), original.toString());
+        assertTrue(fourTimes.getElapsedNanos() >= TimeUnit.MILLISECONDS.toNanos(100), fourTimes.toString());
+        assertTrue(fourTimes.getElapsedNanos() < original.getElapsedNanos(), fourTimes.toString());
+    }
+
+    @Test
+    void testRejectsForeignStreams() {
+        assertThrows(IOException.class, () -> new WorkloadTraceReader(new ByteArrayInputStream(new byte[]{1, 2, 3, 4})));
+    }
+}